@@ -0,0 +1,31 @@
+package com.sporty.jackpot.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public TaskExecutor betStatusExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("bet-status-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor betEventExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("bet-event-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor jackpotStreamExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("jackpot-stream-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
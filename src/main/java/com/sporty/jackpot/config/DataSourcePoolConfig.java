@@ -0,0 +1,59 @@
+package com.sporty.jackpot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@ConditionalOnProperty(name = "jackpot.datasource.pool.auto-size", havingValue = "true")
+@Slf4j
+public class DataSourcePoolConfig {
+
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    static final String MINIMUM_IDLE = "spring.datasource.hikari.minimum-idle";
+
+    // Explicit spring.datasource.hikari settings win over the computed size
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int maxSize = environment.getProperty("jackpot.datasource.pool.max-size", Integer.class, 0);
+                    int concurrency = environment.getProperty("jackpot.kafka.consumer.concurrency", Integer.class, 10);
+                    int extra = environment.getProperty("jackpot.datasource.pool.extra-connections", Integer.class, 5);
+                    int poolSize = poolSize(maxSize, concurrency, extra);
+
+                    if (environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                        log.info("Connection pool '{}' keeps {}={}",
+                                dataSource.getPoolName(), MAXIMUM_POOL_SIZE, dataSource.getMaximumPoolSize());
+                    } else {
+                        dataSource.setMaximumPoolSize(poolSize);
+                        if (maxSize > 0) {
+                            log.info("Sized connection pool '{}' to {} connections",
+                                    dataSource.getPoolName(), poolSize);
+                        } else {
+                            log.info("Sized connection pool '{}' to {} connections ({} consumers + {} extra)",
+                                    dataSource.getPoolName(), poolSize, concurrency, extra);
+                        }
+                    }
+                    if (!environment.containsProperty(MINIMUM_IDLE)) {
+                        dataSource.setMinimumIdle(Math.min(poolSize, dataSource.getMaximumPoolSize()));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int poolSize(int maxSize, int consumerConcurrency, int extraConnections) {
+        if (maxSize > 0) {
+            return maxSize;
+        }
+        return consumerConcurrency + extraConnections;
+    }
+}
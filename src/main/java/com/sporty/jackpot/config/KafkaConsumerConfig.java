@@ -1,6 +1,8 @@
 package com.sporty.jackpot.config;
 
 import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.service.BetService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,11 +16,15 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.util.backoff.ExponentialBackOff;
 
+import java.util.List;
+
 @Configuration
 @EnableKafka
 @Slf4j
@@ -49,13 +55,16 @@ public class KafkaConsumerConfig {
 
     @Bean
     public CommonErrorHandler kafkaErrorHandler(
-            KafkaTemplate<String, BetMessage> kafkaTemplate) {
+            KafkaTemplate<String, BetMessage> kafkaTemplate,
+            BetService betService,
+            MeterRegistry meterRegistry) {
 
-        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+        DeadLetterPublishingRecoverer deadLetterRecoverer = new DeadLetterPublishingRecoverer(
                 kafkaTemplate,
                 (record, ex) -> {
                     log.error("Sending message to DLQ. Topic: {}, Partition: {}, Offset: {}, Error: {}",
                             record.topic(), record.partition(), record.offset(), ex.getMessage());
+                    meterRegistry.counter("jackpot.kafka.dlq", "topic", record.topic()).increment();
                     return new TopicPartition(
                             record.topic() + "-dlq",
                             record.partition()
@@ -63,6 +72,15 @@ public class KafkaConsumerConfig {
                 }
         );
 
+        // Bets are only marked FAILED here, once retries are exhausted, so a batch that succeeds on a retry never
+        // reports a FAILED status
+        ConsumerRecordRecoverer recoverer = (record, ex) -> {
+            deadLetterRecoverer.accept(record, ex);
+            if (record.value() instanceof BetMessage bet) {
+                betService.markFailed(List.of(bet.getBetId()));
+            }
+        };
+
         ExponentialBackOff backOff = new ExponentialBackOff(initialIntervalMs, multiplier);
         backOff.setMaxInterval(maxIntervalMs);
         backOff.setMaxElapsedTime(maxIntervalMs * maxRetryAttempts);
@@ -89,7 +107,8 @@ public class KafkaConsumerConfig {
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, BetMessage> kafkaListenerContainerFactory(
             ConsumerFactory<String, BetMessage> consumerFactory,
-            CommonErrorHandler kafkaErrorHandler) {
+            CommonErrorHandler kafkaErrorHandler,
+            ConsumerAwareRebalanceListener jackpotPartitionRebalanceListener) {
 
         var factory = new ConcurrentKafkaListenerContainerFactory<String, BetMessage>();
         factory.setConsumerFactory(consumerFactory);
@@ -98,6 +117,7 @@ public class KafkaConsumerConfig {
         factory.setCommonErrorHandler(kafkaErrorHandler);
 
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.getContainerProperties().setConsumerRebalanceListener(jackpotPartitionRebalanceListener);
 
         if (useVirtualThreads) {
             SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-");
@@ -1,24 +1,62 @@
 package com.sporty.jackpot.config;
 
 import com.sporty.jackpot.dto.BetMessage;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.util.StringUtils;
 
 import java.util.Map;
 
 @Configuration
+@Slf4j
 public class KafkaProducerConfig {
 
+    @Value("${jackpot.kafka.producer.profile:LATENCY}")
+    private ProducerProfile profile;
+
+    @Value("${jackpot.kafka.producer.linger-ms:}")
+    private Integer lingerMs;
+
+    @Value("${jackpot.kafka.producer.batch-size:}")
+    private Integer batchSize;
+
+    @Value("${jackpot.kafka.producer.buffer-memory:}")
+    private Long bufferMemory;
+
+    @Value("${jackpot.kafka.producer.compression-type:}")
+    private String compressionType;
+
+    @Value("${jackpot.kafka.producer.max-in-flight:5}")
+    private int maxInFlight;
+
     @Bean
     public ProducerFactory<String, BetMessage> producerFactory(KafkaProperties kafkaProperties) {
         Map<String, Object> props = kafkaProperties.buildProducerProperties();
-        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
-        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        profile.apply(props);
+        if (lingerMs != null) {
+            props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        }
+        if (batchSize != null) {
+            props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        }
+        if (bufferMemory != null) {
+            props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        }
+        if (StringUtils.hasText(compressionType)) {
+            props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType.trim());
+        }
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
+
+        log.info("Kafka producer profile {}: linger.ms={}, batch.size={}, buffer.memory={}, compression.type={}",
+                profile, props.get(ProducerConfig.LINGER_MS_CONFIG), props.get(ProducerConfig.BATCH_SIZE_CONFIG),
+                props.get(ProducerConfig.BUFFER_MEMORY_CONFIG), props.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
         return new DefaultKafkaProducerFactory<>(props);
     }
 
@@ -0,0 +1,41 @@
+package com.sporty.jackpot.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Map;
+
+public enum ProducerProfile {
+
+    // No linger, so every send leaves immediately. Set explicitly: the client default has been 5 ms since Kafka 4.0.
+    LATENCY(0, null, null, "snappy"),
+
+    // A short linger bounds the wait when traffic is light, while the large batch size lets batches grow with load
+    BALANCED(5, 128 * 1024, 64L * 1024 * 1024, "lz4"),
+
+    THROUGHPUT(25, 512 * 1024, 128L * 1024 * 1024, "zstd");
+
+    private final Integer lingerMs;
+    private final Integer batchSize;
+    private final Long bufferMemory;
+    private final String compressionType;
+
+    ProducerProfile(Integer lingerMs, Integer batchSize, Long bufferMemory, String compressionType) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.bufferMemory = bufferMemory;
+        this.compressionType = compressionType;
+    }
+
+    public void apply(Map<String, Object> props) {
+        putIfSet(props, ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        putIfSet(props, ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        putIfSet(props, ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+    }
+
+    private static void putIfSet(Map<String, Object> props, String key, Object value) {
+        if (value != null) {
+            props.put(key, value);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.sporty.jackpot.controller;
 
+import com.sporty.jackpot.dto.BetBatchRequest;
+import com.sporty.jackpot.dto.BetBatchResponse;
+import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.dto.BetRequest;
 import com.sporty.jackpot.dto.BetResponse;
 import com.sporty.jackpot.entity.Bet;
 import com.sporty.jackpot.entity.BetStatus;
 import com.sporty.jackpot.kafka.KafkaBetProducer;
 import com.sporty.jackpot.service.BetService;
+import com.sporty.jackpot.service.BetStatusNotifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,16 +18,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/bets")
@@ -34,10 +47,16 @@ public class BetController {
 
     private final KafkaBetProducer kafkaBetProducer;
     private final BetService betService;
+    private final TaskExecutor betStatusExecutor;
+    private final BetStatusNotifier betStatusNotifier;
+
+    @Value("${jackpot.api.bet-events-timeout-ms:30000}")
+    private long betEventsTimeoutMs;
 
     @Operation(summary = "Publish a bet", description = "Publishes a bet to Kafka for async processing")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Bet published successfully"),
+        @ApiResponse(responseCode = "202", description = "Bet stored in the outbox for publishing"),
         @ApiResponse(responseCode = "400", description = "Invalid request data")
     })
     @PostMapping
@@ -46,6 +65,11 @@ public class BetController {
 
         Bet bet = betService.createBet(betId, request);
 
+        if (betService.isOutboxEnabled()) {
+            log.info("Queued bet {} for jackpot {} in outbox", betId, request.getJackpotId());
+            return accepted(betId);
+        }
+
         kafkaBetProducer.publishBetSync(betService.toMessage(bet));
 
         betService.updateStatus(betId, BetStatus.PUBLISHED);
@@ -61,6 +85,100 @@ public class BetController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Publish a bet asynchronously",
+            description = "Stores the bet and hands it to Kafka without waiting for the broker acknowledgement")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Bet accepted for publishing"),
+        @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    @PostMapping("/async")
+    public ResponseEntity<BetResponse> publishBetAsync(@Valid @RequestBody BetRequest request) {
+        UUID betId = UUID.randomUUID();
+
+        Bet bet = betService.createBet(betId, request);
+
+        if (betService.isOutboxEnabled()) {
+            log.info("Queued bet {} for jackpot {} in outbox", betId, request.getJackpotId());
+            return accepted(betId);
+        }
+
+        transitionWhenAcknowledged(betId, kafkaBetProducer.publishBet(betService.toMessage(bet)));
+
+        log.info("Accepted bet {} for jackpot {}", betId, request.getJackpotId());
+
+        return accepted(betId);
+    }
+
+    @Operation(summary = "Publish a batch of bets",
+            description = "Stores up to " + BetBatchRequest.MAX_BETS + " bets in one transaction, publishes them "
+                    + "to Kafka together and reports the outcome of each bet")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All bets published successfully"),
+        @ApiResponse(responseCode = "202", description = "Bets stored in the outbox for publishing"),
+        @ApiResponse(responseCode = "207", description = "Some bets failed or are still awaiting acknowledgement"),
+        @ApiResponse(responseCode = "400", description = "Invalid request data")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BetBatchResponse> publishBets(@Valid @RequestBody BetBatchRequest request) {
+        List<Bet> bets = betService.createBets(request.getBets());
+
+        if (betService.isOutboxEnabled()) {
+            log.info("Queued batch of {} bets in outbox", bets.size());
+            List<BetResponse> results = bets.stream()
+                    .map(bet -> pendingResponse(bet.getId()))
+                    .toList();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(batchResponse(results, 0));
+        }
+
+        List<CompletableFuture<SendResult<String, BetMessage>>> futures = kafkaBetProducer.publishBetsAndWait(
+                bets.stream().map(betService::toMessage).toList());
+
+        // A send still running after the timeout may yet reach Kafka, so its bet stays PENDING until the send
+        // completes instead of being reported FAILED
+        List<UUID> published = new ArrayList<>(bets.size());
+        List<UUID> failed = new ArrayList<>();
+        List<BetResponse> results = new ArrayList<>(bets.size());
+        for (int i = 0; i < bets.size(); i++) {
+            UUID betId = bets.get(i).getId();
+            CompletableFuture<SendResult<String, BetMessage>> future = futures.get(i);
+            switch (future.state()) {
+                case SUCCESS -> {
+                    published.add(betId);
+                    results.add(BetResponse.builder()
+                            .betId(betId)
+                            .status(BetStatus.PUBLISHED.name())
+                            .message("Bet successfully published to processing queue")
+                            .build());
+                }
+                case FAILED -> {
+                    failed.add(betId);
+                    results.add(BetResponse.builder()
+                            .betId(betId)
+                            .status(BetStatus.FAILED.name())
+                            .message("Failed to publish bet")
+                            .build());
+                }
+                default -> {
+                    transitionWhenAcknowledged(betId, future);
+                    results.add(BetResponse.builder()
+                            .betId(betId)
+                            .status(BetStatus.PENDING.name())
+                            .message("Bet publish not yet acknowledged")
+                            .build());
+                }
+            }
+        }
+
+        betService.transitionStatuses(published, BetStatus.PENDING, BetStatus.PUBLISHED);
+        betService.transitionStatuses(failed, BetStatus.PENDING, BetStatus.FAILED);
+
+        log.info("Published batch of {} bets, {} failed, {} still pending", bets.size(), failed.size(),
+                bets.size() - published.size() - failed.size());
+
+        HttpStatus status = published.size() == bets.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(batchResponse(results, failed.size()));
+    }
+
     @Operation(summary = "Get bet status", description = "Retrieves the current status of a bet")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Bet found"),
@@ -69,14 +187,91 @@ public class BetController {
     @GetMapping("/{id}")
     public ResponseEntity<BetResponse> getBet(
             @Parameter(description = "Bet ID") @PathVariable UUID id) {
-        Bet bet = betService.getBet(id);
+        BetStatus status = betService.getBetStatus(id);
+        return ResponseEntity.ok(statusResponse(id, status));
+    }
 
-        BetResponse response = BetResponse.builder()
-                .betId(bet.getId())
-                .status(bet.getStatus().name())
-                .message("Bet status: " + bet.getStatus().name())
+    @Operation(summary = "Stream bet status transitions",
+            description = "Streams the current status of a bet followed by every transition as server-sent events. "
+                    + "The stream completes once the bet is PROCESSED or FAILED, or when it times out. Transitions "
+                    + "are only pushed when they are applied on the instance serving the stream, so with several "
+                    + "instances a client should poll GET /api/v1/bets/{id} after the stream times out")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream of bet statuses"),
+        @ApiResponse(responseCode = "404", description = "Bet not found")
+    })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBetEvents(
+            @Parameter(description = "Bet ID") @PathVariable UUID id) {
+        SseEmitter emitter = new SseEmitter(betEventsTimeoutMs);
+
+        // Subscribe before reading the status so a transition committed in between is not missed. The initial status
+        // goes through the subscription too, so it is sent in order with the transitions.
+        BetStatusNotifier.Subscription subscription =
+                betStatusNotifier.subscribe(id, status -> send(emitter, id, status));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(() -> {
+            subscription.cancel();
+            emitter.complete();
+        });
+        emitter.onError(e -> subscription.cancel());
+
+        BetStatus status;
+        try {
+            status = betService.getBetStatus(id);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            throw e;
+        }
+        subscription.deliver(status);
+
+        return emitter;
+    }
+
+    private static void send(SseEmitter emitter, UUID betId, BetStatus status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("status")
+                    .data(statusResponse(betId, status), MediaType.APPLICATION_JSON));
+            if (BetStatusNotifier.isFinal(status)) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Bet {} event stream closed: {}", betId, e.getMessage());
+        }
+    }
+
+    private static BetResponse statusResponse(UUID betId, BetStatus status) {
+        return BetResponse.builder()
+                .betId(betId)
+                .status(status.name())
+                .message("Bet status: " + status.name())
+                .build();
+    }
+
+    private ResponseEntity<BetResponse> accepted(UUID betId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(pendingResponse(betId));
+    }
+
+    private void transitionWhenAcknowledged(UUID betId, CompletableFuture<?> send) {
+        send.whenCompleteAsync((result, ex) -> betService.transitionStatus(
+                        betId, BetStatus.PENDING, ex == null ? BetStatus.PUBLISHED : BetStatus.FAILED),
+                betStatusExecutor);
+    }
+
+    private static BetResponse pendingResponse(UUID betId) {
+        return BetResponse.builder()
+                .betId(betId)
+                .status(BetStatus.PENDING.name())
+                .message("Bet accepted for publishing")
                 .build();
+    }
 
-        return ResponseEntity.ok(response);
+    private static BetBatchResponse batchResponse(List<BetResponse> results, int failed) {
+        return BetBatchResponse.builder()
+                .accepted(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
     }
 }
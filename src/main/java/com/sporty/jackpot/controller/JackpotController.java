@@ -1,6 +1,7 @@
 package com.sporty.jackpot.controller;
 
 import com.sporty.jackpot.dto.JackpotDto;
+import com.sporty.jackpot.dto.JackpotPage;
 import com.sporty.jackpot.dto.JackpotRequest;
 import com.sporty.jackpot.service.JackpotService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,15 +12,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,7 +38,13 @@ import java.util.UUID;
 @Tag(name = "Jackpots", description = "Jackpot configuration management")
 public class JackpotController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final JackpotService jackpotService;
+    private final TaskExecutor jackpotStreamExecutor;
+
+    @Value("${jackpot.api.stream-timeout-ms:60000}")
+    private long streamTimeoutMs;
 
     @Operation(summary = "Create a jackpot",
             description = "Creates a new jackpot with contribution and reward configuration")
@@ -58,12 +72,66 @@ public class JackpotController {
         return ResponseEntity.ok(jackpot);
     }
 
-    @Operation(summary = "List all jackpots", description = "Retrieves all configured jackpots")
-    @ApiResponse(responseCode = "200", description = "List of jackpots")
+    @Operation(summary = "List jackpots",
+            description = "Retrieves every jackpot when neither cursor nor limit is given. Otherwise retrieves one "
+                    + "page of jackpots ordered by creation time; the cursor for the next page is returned in the "
+                    + NEXT_CURSOR_HEADER + " header and is absent on the last page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Jackpots or page of jackpots"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
     @GetMapping
-    public ResponseEntity<List<JackpotDto>> getAllJackpots() {
-        log.debug("Getting all jackpots");
-        List<JackpotDto> jackpots = jackpotService.getAllJackpots();
-        return ResponseEntity.ok(jackpots);
+    public ResponseEntity<List<JackpotDto>> getJackpots(
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most " + JackpotService.MAX_PAGE_SIZE
+                    + "; defaults to " + JackpotService.DEFAULT_PAGE_SIZE + " when a cursor is given")
+            @RequestParam(required = false) Integer limit) {
+        if (cursor == null && limit == null) {
+            log.debug("Getting all jackpots");
+            return ResponseEntity.ok(jackpotService.getAllJackpots());
+        }
+
+        int pageSize = limit != null ? limit : JackpotService.DEFAULT_PAGE_SIZE;
+        log.debug("Getting jackpots after cursor {} with limit {}", cursor, pageSize);
+        JackpotPage page = jackpotService.getJackpots(cursor, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.jackpots());
+    }
+
+    @Operation(summary = "Stream all jackpots",
+            description = "Streams every jackpot as newline-delimited JSON, one jackpot per line")
+    @ApiResponse(responseCode = "200", description = "Stream of jackpots")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamJackpots() {
+        log.debug("Streaming all jackpots");
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(streamTimeoutMs);
+
+        jackpotStreamExecutor.execute(() -> {
+            try {
+                jackpotService.streamJackpots(jackpot -> send(emitter, jackpot));
+                emitter.complete();
+            } catch (RuntimeException e) {
+                log.warn("Jackpot stream aborted: {}", e.getMessage());
+                emitter.completeWithError(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    private static void send(ResponseBodyEmitter emitter, JackpotDto jackpot) {
+        try {
+            emitter.send(jackpot, MediaType.APPLICATION_JSON);
+            emitter.send("\n", MediaType.TEXT_PLAIN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
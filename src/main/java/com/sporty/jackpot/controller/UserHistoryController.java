@@ -0,0 +1,76 @@
+package com.sporty.jackpot.controller;
+
+import com.sporty.jackpot.dto.ContributionHistoryDto;
+import com.sporty.jackpot.dto.HistoryPage;
+import com.sporty.jackpot.dto.RewardHistoryDto;
+import com.sporty.jackpot.service.UserHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/users/{userId}")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Users", description = "Per-user contribution and reward history")
+public class UserHistoryController {
+
+    private final UserHistoryService userHistoryService;
+
+    @Operation(summary = "List user contributions",
+            description = "Retrieves one page of the user's jackpot contributions, newest first. The cursor for the "
+                    + "next page is returned in the " + JackpotController.NEXT_CURSOR_HEADER + " header")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of contributions"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/contributions")
+    public ResponseEntity<List<ContributionHistoryDto>> getContributions(
+            @Parameter(description = "User ID") @PathVariable UUID userId,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most " + UserHistoryService.MAX_PAGE_SIZE)
+            @RequestParam(defaultValue = "" + UserHistoryService.DEFAULT_PAGE_SIZE) int limit) {
+        log.debug("Getting contributions of user {} after cursor {} with limit {}", userId, cursor, limit);
+        return toResponse(userHistoryService.getContributions(userId, cursor, limit));
+    }
+
+    @Operation(summary = "List user rewards",
+            description = "Retrieves one page of the user's jackpot rewards, newest first. The cursor for the "
+                    + "next page is returned in the " + JackpotController.NEXT_CURSOR_HEADER + " header")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of rewards"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/rewards")
+    public ResponseEntity<List<RewardHistoryDto>> getRewards(
+            @Parameter(description = "User ID") @PathVariable UUID userId,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most " + UserHistoryService.MAX_PAGE_SIZE)
+            @RequestParam(defaultValue = "" + UserHistoryService.DEFAULT_PAGE_SIZE) int limit) {
+        log.debug("Getting rewards of user {} after cursor {} with limit {}", userId, cursor, limit);
+        return toResponse(userHistoryService.getRewards(userId, cursor, limit));
+    }
+
+    private static <T> ResponseEntity<List<T>> toResponse(HistoryPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(JackpotController.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+}
@@ -0,0 +1,23 @@
+package com.sporty.jackpot.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BetBatchRequest {
+    public static final int MAX_BETS = 1000;
+
+    @NotEmpty(message = "At least one bet is required")
+    @Size(max = MAX_BETS, message = "At most " + MAX_BETS + " bets can be submitted per batch")
+    private List<@Valid BetRequest> bets;
+}
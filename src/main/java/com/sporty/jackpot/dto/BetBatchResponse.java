@@ -0,0 +1,18 @@
+package com.sporty.jackpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BetBatchResponse {
+    private int accepted;
+    private int failed;
+    private List<BetResponse> results;
+}
@@ -17,4 +17,5 @@ public class BetMessage {
     private UUID userId;
     private UUID jackpotId;
     private BigDecimal betAmount;
+    private Long createdAtMillis;
 }
@@ -0,0 +1,15 @@
+package com.sporty.jackpot.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record ContributionHistoryDto(
+        UUID id,
+        UUID betId,
+        UUID jackpotId,
+        BigDecimal stakeAmount,
+        BigDecimal contributionAmount,
+        BigDecimal currentJackpotAmount,
+        Instant createdAt) {
+}
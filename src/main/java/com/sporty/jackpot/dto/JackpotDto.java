@@ -1,6 +1,7 @@
 package com.sporty.jackpot.dto;
 
 import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.RandomSourceType;
 import com.sporty.jackpot.entity.RewardType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,6 +26,7 @@ public class JackpotDto {
     private RewardType rewardType;
     private BigDecimal rewardChancePercentage;
     private BigDecimal maxPoolLimit;
+    private RandomSourceType randomSource;
     private Instant createdAt;
     private Instant updatedAt;
 }
@@ -0,0 +1,6 @@
+package com.sporty.jackpot.dto;
+
+import java.util.List;
+
+public record JackpotPage(List<JackpotDto> jackpots, String nextCursor) {
+}
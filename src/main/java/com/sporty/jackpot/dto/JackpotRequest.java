@@ -1,6 +1,7 @@
 package com.sporty.jackpot.dto;
 
 import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.RandomSourceType;
 import com.sporty.jackpot.entity.RewardType;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
@@ -46,4 +47,6 @@ public class JackpotRequest {
 
     @Positive(message = "Max pool limit must be positive if specified")
     private BigDecimal maxPoolLimit;
+
+    private RandomSourceType randomSource;
 }
@@ -0,0 +1,13 @@
+package com.sporty.jackpot.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record RewardHistoryDto(
+        UUID id,
+        UUID betId,
+        UUID jackpotId,
+        BigDecimal rewardAmount,
+        Instant createdAt) {
+}
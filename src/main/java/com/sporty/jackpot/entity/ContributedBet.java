@@ -0,0 +1,32 @@
+package com.sporty.jackpot.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "contributed_bets",
+        indexes = @Index(name = "idx_contributed_bets_created_at", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContributedBet {
+
+    @Id
+    private UUID betId;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
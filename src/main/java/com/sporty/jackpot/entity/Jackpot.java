@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
@@ -22,7 +23,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "jackpots")
+@Table(name = "jackpots", indexes = @Index(name = "idx_jackpots_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -60,6 +61,9 @@ public class Jackpot {
     @Column(precision = 19, scale = 4)
     private BigDecimal maxPoolLimit;
 
+    @Enumerated(EnumType.STRING)
+    private RandomSourceType randomSource;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
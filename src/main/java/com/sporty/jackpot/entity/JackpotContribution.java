@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,12 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "jackpot_contributions")
+@Table(name = "jackpot_contributions", indexes = {
+    @Index(name = "idx_jackpot_contributions_bet_id", columnList = "bet_id"),
+    @Index(name = "idx_jackpot_contributions_user_id_created_at", columnList = "user_id, created_at"),
+    @Index(name = "idx_jackpot_contributions_jackpot_id_created_at", columnList = "jackpot_id, created_at"),
+    @Index(name = "idx_jackpot_contributions_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
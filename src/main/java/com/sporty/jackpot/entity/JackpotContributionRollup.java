@@ -0,0 +1,60 @@
+package com.sporty.jackpot.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(name = "jackpot_contribution_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_jackpot_contribution_rollups_jackpot_id_date",
+                columnNames = {"jackpot_id", "contribution_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JackpotContributionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID jackpotId;
+
+    @Column(nullable = false)
+    private LocalDate contributionDate;
+
+    @Column(nullable = false)
+    private long contributionCount;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal stakeAmount;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal contributionAmount;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
@@ -5,7 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,7 +20,12 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "jackpot_rewards")
+@Table(name = "jackpot_rewards",
+        uniqueConstraints = @UniqueConstraint(name = JackpotReward.BET_ID_CONSTRAINT, columnNames = "bet_id"),
+        indexes = {
+            @Index(name = "idx_jackpot_rewards_user_id_created_at", columnList = "user_id, created_at"),
+            @Index(name = "idx_jackpot_rewards_jackpot_id", columnList = "jackpot_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,6 +33,8 @@ import java.util.UUID;
 @Builder
 public class JackpotReward {
 
+    public static final String BET_ID_CONSTRAINT = "uk_jackpot_rewards_bet_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
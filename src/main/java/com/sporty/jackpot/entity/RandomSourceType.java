@@ -0,0 +1,6 @@
+package com.sporty.jackpot.entity;
+
+public enum RandomSourceType {
+    SECURE,
+    SPLITTABLE
+}
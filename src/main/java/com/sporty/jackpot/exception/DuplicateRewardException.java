@@ -0,0 +1,10 @@
+package com.sporty.jackpot.exception;
+
+import java.util.UUID;
+
+public class DuplicateRewardException extends RuntimeException {
+
+    public DuplicateRewardException(UUID betId, Throwable cause) {
+        super("Reward already recorded for bet: " + betId, cause);
+    }
+}
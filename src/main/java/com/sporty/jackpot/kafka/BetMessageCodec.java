@@ -0,0 +1,80 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.dto.BetMessage;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+final class BetMessageCodec {
+
+    static final String VERSION_HEADER = "jackpot-bet-codec";
+    static final byte VERSION_1 = 1;
+
+    // betId, userId, jackpotId as two longs each, amount scale and unscaled value, creation time
+    static final int V1_SIZE = 3 * 2 * Long.BYTES + 1 + Long.BYTES + Long.BYTES;
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private BetMessageCodec() {
+    }
+
+    static byte[] encode(BetMessage bet) {
+        if (bet.getBetId() == null || bet.getUserId() == null || bet.getJackpotId() == null
+                || bet.getBetAmount() == null) {
+            throw new SerializationException("Cannot encode incomplete bet " + bet.getBetId());
+        }
+
+        BigDecimal amount = bet.getBetAmount();
+        if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE
+                || amount.unscaledValue().bitLength() >= Long.SIZE) {
+            throw new SerializationException("Bet amount " + amount + " of bet " + bet.getBetId()
+                    + " does not fit the binary format");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(V1_SIZE);
+        putUuid(buffer, bet.getBetId());
+        putUuid(buffer, bet.getUserId());
+        putUuid(buffer, bet.getJackpotId());
+        buffer.put((byte) amount.scale());
+        buffer.putLong(amount.unscaledValue().longValue());
+        buffer.putLong(bet.getCreatedAtMillis() != null ? bet.getCreatedAtMillis() : NO_TIMESTAMP);
+        return buffer.array();
+    }
+
+    static BetMessage decode(byte[] version, byte[] data) {
+        if (version.length != 1 || version[0] != VERSION_1) {
+            throw new SerializationException("Unsupported bet codec version " + Arrays.toString(version));
+        }
+        if (data.length != V1_SIZE) {
+            throw new SerializationException("Expected " + V1_SIZE + " bytes for a bet but got " + data.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        UUID betId = getUuid(buffer);
+        UUID userId = getUuid(buffer);
+        UUID jackpotId = getUuid(buffer);
+        int scale = buffer.get();
+        BigDecimal amount = BigDecimal.valueOf(buffer.getLong(), scale);
+        long createdAt = buffer.getLong();
+
+        return BetMessage.builder()
+                .betId(betId)
+                .userId(userId)
+                .jackpotId(jackpotId)
+                .betAmount(amount)
+                .createdAtMillis(createdAt != NO_TIMESTAMP ? createdAt : null)
+                .build();
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,42 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.dto.BetMessage;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+public class BetMessageDeserializer implements Deserializer<BetMessage> {
+
+    private final JsonDeserializer<BetMessage> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public BetMessage deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public BetMessage deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        Header version = headers.lastHeader(BetMessageCodec.VERSION_HEADER);
+        if (version == null) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+        return BetMessageCodec.decode(version.value(), data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,63 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.dto.BetMessage;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Locale;
+import java.util.Map;
+
+public class BetMessageSerializer implements Serializer<BetMessage> {
+
+    public static final String FORMAT_CONFIG = "jackpot.bet.format";
+
+    private final JsonSerializer<BetMessage> jsonSerializer = new JsonSerializer<>();
+    private Format format = Format.JSON;
+
+    public BetMessageSerializer() {
+    }
+
+    public BetMessageSerializer(Format format) {
+        this.format = format;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object configured = configs.get(FORMAT_CONFIG);
+        if (configured != null) {
+            format = Format.valueOf(configured.toString().trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, BetMessage bet) {
+        return jsonSerializer.serialize(topic, bet);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, BetMessage bet) {
+        if (bet == null) {
+            return null;
+        }
+
+        // Re-published records (e.g. to the DLQ) carry their original headers, so the version is always reset
+        headers.remove(BetMessageCodec.VERSION_HEADER);
+        if (format == Format.JSON) {
+            return jsonSerializer.serialize(topic, headers, bet);
+        }
+        headers.add(BetMessageCodec.VERSION_HEADER, new byte[] {BetMessageCodec.VERSION_1});
+        return BetMessageCodec.encode(bet);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+
+    public enum Format {
+        JSON,
+        BINARY
+    }
+}
@@ -0,0 +1,41 @@
+package com.sporty.jackpot.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@RequiredArgsConstructor
+public class BetOutboxClaimLock {
+
+    static final long ADVISORY_LOCK_KEY = 0x6A61636B706F74L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock localLock = new ReentrantLock();
+
+    @Value("${jackpot.outbox.advisory-lock.enabled:false}")
+    private boolean advisoryLockEnabled;
+
+    // A relay that skips rows another relay is still claiming cannot see that claim, and would take the jackpot's
+    // newer rows first. Claims therefore run one at a time: relays of this instance wait on a local lock and, on
+    // PostgreSQL, relays of other instances on a transaction-scoped advisory lock. Each claim query then sees the
+    // previous claim committed.
+    public <T> T claim(TransactionTemplate transactionTemplate, TransactionCallback<T> action) {
+        localLock.lock();
+        try {
+            return transactionTemplate.execute(tx -> {
+                if (advisoryLockEnabled) {
+                    jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + ADVISORY_LOCK_KEY + ")");
+                }
+                return action.doInTransaction(tx);
+            });
+        } finally {
+            localLock.unlock();
+        }
+    }
+}
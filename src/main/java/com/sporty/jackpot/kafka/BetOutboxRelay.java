@@ -0,0 +1,159 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.entity.BetOutboxEntry;
+import com.sporty.jackpot.entity.BetStatus;
+import com.sporty.jackpot.repository.BetOutboxRepository;
+import com.sporty.jackpot.service.BetService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+@Component
+@Slf4j
+public class BetOutboxRelay {
+
+    private final BetOutboxRepository outboxRepository;
+    private final BetService betService;
+    private final KafkaBetProducer kafkaBetProducer;
+    private final BetOutboxClaimLock claimLock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jackpot.outbox.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jackpot.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${jackpot.outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${jackpot.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${jackpot.outbox.claim-timeout-ms:30000}")
+    private long claimTimeoutMs;
+
+    public BetOutboxRelay(BetOutboxRepository outboxRepository,
+                          BetService betService,
+                          KafkaBetProducer kafkaBetProducer,
+                          BetOutboxClaimLock claimLock,
+                          PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.betService = betService;
+        this.kafkaBetProducer = kafkaBetProducer;
+        this.claimLock = claimLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${jackpot.outbox.poll-interval-ms:100}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+
+        // The relay shares the single scheduler thread with the pool flush and ledger maintenance, so a backlog is
+        // drained a bounded number of batches per run rather than in one go
+        try {
+            int batches = 0;
+            boolean fullBatch;
+            do {
+                fullBatch = relayBatch();
+            } while (fullBatch && ++batches < maxBatchesPerRun);
+        } catch (RuntimeException e) {
+            log.error("Failed to relay bet outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean relayBatch() {
+        List<BetOutboxEntry> entries = claimLock.claim(transactionTemplate, tx -> claimBatch());
+        if (entries == null || entries.isEmpty()) {
+            return false;
+        }
+
+        List<BetMessage> messages = entries.stream()
+                .map(BetOutboxRelay::toMessage)
+                .toList();
+
+        List<CompletableFuture<SendResult<String, BetMessage>>> futures =
+                kafkaBetProducer.publishBetsAndWait(messages, sendTimeoutMs);
+
+        // Entries are in creation order; after a failure the jackpot's later bets stay queued behind it and are
+        // sent again on the next run, where the consumer skips the copies that already arrived
+        List<BetOutboxEntry> relayed = new ArrayList<>(entries.size());
+        List<UUID> unrelayed = new ArrayList<>();
+        Set<UUID> stoppedJackpots = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BetOutboxEntry entry = entries.get(i);
+            if (futures.get(i).state() == Future.State.SUCCESS && !stoppedJackpots.contains(entry.getJackpotId())) {
+                relayed.add(entry);
+            } else {
+                stoppedJackpots.add(entry.getJackpotId());
+                unrelayed.add(entry.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> complete(relayed, unrelayed));
+
+        if (!unrelayed.isEmpty()) {
+            log.warn("Relayed {} of {} outbox bets, {} left for the next run",
+                    relayed.size(), entries.size(), unrelayed.size());
+            return false;
+        }
+
+        log.debug("Relayed {} outbox bets", relayed.size());
+        return entries.size() == batchSize;
+    }
+
+    private List<BetOutboxEntry> claimBatch() {
+        Instant now = Instant.now();
+        List<BetOutboxEntry> entries = outboxRepository.findBatchForRelay(now, Limit.of(batchSize));
+        if (!entries.isEmpty()) {
+            List<UUID> ids = entries.stream()
+                    .map(BetOutboxEntry::getId)
+                    .toList();
+            outboxRepository.claimByIdIn(ids, now.plusMillis(claimTimeoutMs));
+        }
+        return entries;
+    }
+
+    private void complete(List<BetOutboxEntry> relayed, List<UUID> unrelayed) {
+        if (!relayed.isEmpty()) {
+            List<UUID> relayedEntries = relayed.stream()
+                    .map(BetOutboxEntry::getId)
+                    .toList();
+            List<UUID> publishedBets = relayed.stream()
+                    .map(BetOutboxEntry::getBetId)
+                    .toList();
+            outboxRepository.deleteAllByIdInBatch(relayedEntries);
+            betService.transitionStatuses(publishedBets, BetStatus.PENDING, BetStatus.PUBLISHED);
+        }
+        if (!unrelayed.isEmpty()) {
+            outboxRepository.releaseByIdIn(unrelayed);
+        }
+    }
+
+    private static BetMessage toMessage(BetOutboxEntry entry) {
+        return BetMessage.builder()
+                .betId(entry.getBetId())
+                .userId(entry.getUserId())
+                .jackpotId(entry.getJackpotId())
+                .betAmount(entry.getBetAmount())
+                .createdAtMillis(entry.getCreatedAt() != null ? entry.getCreatedAt().toEpochMilli() : null)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.service.JackpotPoolAccumulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JackpotPartitionRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final JackpotPoolAccumulator poolAccumulator;
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        log.info("Assigned partitions {}", partitions);
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        log.info("Revoking partitions {}", partitions);
+        poolAccumulator.releasePartitions(partitionNumbers(partitions));
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        log.warn("Lost partitions {}", partitions);
+        poolAccumulator.releasePartitions(partitionNumbers(partitions));
+    }
+
+    private static List<Integer> partitionNumbers(Collection<TopicPartition> partitions) {
+        return partitions.stream()
+                .map(TopicPartition::partition)
+                .toList();
+    }
+}
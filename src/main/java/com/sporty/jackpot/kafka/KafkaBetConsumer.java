@@ -3,52 +3,110 @@ package com.sporty.jackpot.kafka;
 import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.entity.BetStatus;
 import com.sporty.jackpot.repository.BetRepository;
+import com.sporty.jackpot.service.BetStatusCache;
+import com.sporty.jackpot.service.BetStatusNotifier;
 import com.sporty.jackpot.service.JackpotContributionService;
+import com.sporty.jackpot.service.JackpotPoolAccumulator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class KafkaBetConsumer {
 
+    private static final String STATUS_UPDATE_TIMER = "jackpot.bets.status.update";
+    private static final String CONSUME_TIMER = "jackpot.bets.consume";
+    private static final String BATCH_SIZE_SUMMARY = "jackpot.bets.consume.batch.size";
+    private static final String LAG_TIMER = "jackpot.bets.lag";
+
     private final JackpotContributionService contributionService;
     private final BetRepository betRepository;
+    private final JackpotPoolAccumulator poolAccumulator;
+    private final BetStatusCache statusCache;
+    private final BetStatusNotifier statusNotifier;
+    private final MeterRegistry meterRegistry;
 
     @KafkaListener(
             topics = "${jackpot.kafka.topic.bets:jackpot-bets}",
             groupId = "${spring.kafka.consumer.group-id:jackpot-service}",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void consumeBets(List<BetMessage> bets, Acknowledgment ack) {
+    public void consumeBets(List<BetMessage> bets,
+                            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps,
+                            Acknowledgment ack) {
         log.info("Received batch of {} bets", bets.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                .baseUnit("bets")
+                .register(meterRegistry)
+                .record(bets.size());
+
+        if (poolAccumulator.isEnabled()) {
+            for (int i = 0; i < bets.size(); i++) {
+                poolAccumulator.assignPartition(bets.get(i).getJackpotId(), partitions.get(i));
+            }
+        }
 
         try {
             contributionService.processBatch(bets);
 
-            bets.forEach(bet -> betRepository.findById(bet.getBetId())
-                    .ifPresent(b -> {
-                        b.setStatus(BetStatus.PROCESSED);
-                        betRepository.save(b);
-                    }));
+            updateStatuses(bets, BetStatus.PROCESSED);
 
             ack.acknowledge();
+            recordLag(bets, partitions, timestamps);
+            sample.stop(meterRegistry.timer(CONSUME_TIMER, "outcome", "success"));
             log.debug("Batch processed and acknowledged");
         } catch (Exception e) {
+            // The error handler retries the batch, so the bets are only marked FAILED by its recoverer once the
+            // retries are exhausted
             log.error("Failed to process batch: {}", e.getMessage(), e);
 
-            bets.forEach(bet -> betRepository.findById(bet.getBetId())
-                    .ifPresent(b -> {
-                        b.setStatus(BetStatus.FAILED);
-                        betRepository.save(b);
-                    }));
+            sample.stop(meterRegistry.timer(CONSUME_TIMER, "outcome", "failure"));
 
             throw e;
         }
     }
+
+    private void recordLag(List<BetMessage> bets, List<Integer> partitions, List<Long> timestamps) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < bets.size(); i++) {
+            Long createdAt = bets.get(i).getCreatedAtMillis();
+            long start = createdAt != null ? createdAt : timestamps.get(i);
+            meterRegistry.timer(LAG_TIMER, "partition", String.valueOf(partitions.get(i)))
+                    .record(Duration.ofMillis(Math.max(0, now - start)));
+        }
+    }
+
+    private void updateStatuses(List<BetMessage> bets, BetStatus status) {
+        if (bets.isEmpty()) {
+            return;
+        }
+
+        List<UUID> betIds = bets.stream()
+                .map(BetMessage::getBetId)
+                .toList();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int updated = betRepository.updateStatusByIdIn(betIds, status, Instant.now());
+        sample.stop(meterRegistry.timer(STATUS_UPDATE_TIMER, "status", status.name()));
+        statusCache.recordAll(betIds, status);
+        statusNotifier.publishAll(betIds, status);
+
+        log.debug("Updated {} of {} bets to {}", updated, betIds.size(), status);
+    }
 }
@@ -2,6 +2,8 @@ package com.sporty.jackpot.kafka;
 
 import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.exception.KafkaPublishException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,23 +13,33 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class KafkaBetProducer {
 
+    private static final String PUBLISH_TIMER = "jackpot.bets.publish";
+
     private final KafkaTemplate<String, BetMessage> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jackpot.kafka.topic.bets:jackpot-bets}")
     private String topic;
 
+    @Value("${jackpot.kafka.producer.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
     public CompletableFuture<SendResult<String, BetMessage>> publishBet(BetMessage bet) {
         String key = bet.getJackpotId().toString();
+        Timer.Sample sample = Timer.start(meterRegistry);
 
         return kafkaTemplate.send(topic, key, bet)
                 .whenComplete((result, ex) -> {
+                    sample.stop(meterRegistry.timer(PUBLISH_TIMER, "outcome", ex == null ? "success" : "failure"));
                     if (ex != null) {
                         log.error("Failed to publish bet {}: {}", bet.getBetId(), ex.getMessage());
                     } else {
@@ -39,7 +51,7 @@ public class KafkaBetProducer {
 
     public void publishBetSync(BetMessage bet) {
         try {
-            publishBet(bet).get(5, TimeUnit.SECONDS);
+            publishBet(bet).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
         } catch (Exception e) {
             throw new KafkaPublishException("Failed to publish bet: " + bet.getBetId(), e);
         }
@@ -50,4 +62,24 @@ public class KafkaBetProducer {
                 .map(this::publishBet)
                 .toList();
     }
+
+    public List<CompletableFuture<SendResult<String, BetMessage>>> publishBetsAndWait(List<BetMessage> bets) {
+        return publishBetsAndWait(bets, sendTimeoutMs);
+    }
+
+    public List<CompletableFuture<SendResult<String, BetMessage>>> publishBetsAndWait(List<BetMessage> bets,
+                                                                                     long timeoutMs) {
+        List<CompletableFuture<SendResult<String, BetMessage>>> futures = publishBets(bets);
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Not all of {} bets were acknowledged: {}", bets.size(), e.getMessage());
+        }
+
+        return futures;
+    }
 }
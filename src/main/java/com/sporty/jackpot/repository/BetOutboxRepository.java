@@ -0,0 +1,34 @@
+package com.sporty.jackpot.repository;
+
+import com.sporty.jackpot.entity.BetOutboxEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BetOutboxRepository extends JpaRepository<BetOutboxEntry, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM BetOutboxEntry o WHERE (o.claimedUntil IS NULL OR o.claimedUntil < :now) "
+            + "AND NOT EXISTS (SELECT p.id FROM BetOutboxEntry p WHERE p.jackpotId = o.jackpotId "
+            + "AND p.claimedUntil >= :now AND p.createdAt <= o.createdAt) ORDER BY o.createdAt")
+    List<BetOutboxEntry> findBatchForRelay(@Param("now") Instant now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE BetOutboxEntry o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+    int claimByIdIn(@Param("ids") Collection<UUID> ids, @Param("claimedUntil") Instant claimedUntil);
+
+    @Modifying
+    @Query("UPDATE BetOutboxEntry o SET o.claimedUntil = NULL WHERE o.id IN :ids")
+    int releaseByIdIn(@Param("ids") Collection<UUID> ids);
+}
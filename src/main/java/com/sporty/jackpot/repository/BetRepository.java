@@ -3,17 +3,58 @@ package com.sporty.jackpot.repository;
 import com.sporty.jackpot.entity.Bet;
 import com.sporty.jackpot.entity.BetStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface BetRepository extends JpaRepository<Bet, UUID> {
 
-    List<Bet> findByUserId(UUID userId);
-
     List<Bet> findByJackpotId(UUID jackpotId);
 
+    @Query("SELECT b.status FROM Bet b WHERE b.id = :id")
+    Optional<BetStatus> findStatusById(@Param("id") UUID id);
+
     List<Bet> findByStatus(BetStatus status);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Bet b SET b.status = :status, b.updatedAt = :updatedAt WHERE b.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids,
+                           @Param("status") BetStatus status,
+                           @Param("updatedAt") Instant updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Bet b SET b.status = :status, b.updatedAt = :updatedAt WHERE b.id = :id AND b.status = :expected")
+    int updateStatusIfCurrent(@Param("id") UUID id,
+                              @Param("expected") BetStatus expected,
+                              @Param("status") BetStatus status,
+                              @Param("updatedAt") Instant updatedAt);
+
+    @Query("SELECT b.id FROM Bet b WHERE b.id IN :ids AND b.status = :status")
+    List<UUID> findIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") BetStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Bet b SET b.status = :status, b.updatedAt = :updatedAt "
+            + "WHERE b.id IN :ids AND b.status = :expected")
+    int updateStatusByIdInIfCurrent(@Param("ids") Collection<UUID> ids,
+                                    @Param("expected") BetStatus expected,
+                                    @Param("status") BetStatus status,
+                                    @Param("updatedAt") Instant updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Bet b SET b.status = :status, b.updatedAt = :updatedAt "
+            + "WHERE b.id IN :ids AND b.status <> :excluded")
+    int updateStatusByIdInUnless(@Param("ids") Collection<UUID> ids,
+                                 @Param("excluded") BetStatus excluded,
+                                 @Param("status") BetStatus status,
+                                 @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,92 @@
+package com.sporty.jackpot.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ContributedBetRepository {
+
+    private static final String POSTGRES_CLAIM = "INSERT INTO contributed_bets (bet_id, created_at) "
+            + "SELECT id, ? FROM unnest(?) AS t(id) ON CONFLICT DO NOTHING RETURNING bet_id";
+
+    private static final String MERGE_CLAIM = "MERGE INTO contributed_bets t "
+            + "USING (SELECT CAST(? AS UUID) AS bet_id) s ON t.bet_id = s.bet_id "
+            + "WHEN NOT MATCHED THEN INSERT (bet_id, created_at) VALUES (s.bet_id, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    // Records the bets as contributed and returns the ones that were not recorded before. The primary key makes
+    // this the authoritative check: of two transactions claiming the same bet, only one gets it back.
+    public Set<UUID> claim(Collection<UUID> betIds, Instant now) {
+        if (betIds.isEmpty()) {
+            return Set.of();
+        }
+        OffsetDateTime createdAt = now.atOffset(ZoneOffset.UTC);
+        return isPostgres() ? claimReturning(betIds, createdAt) : claimBatched(betIds, createdAt);
+    }
+
+    public int deleteCreatedBefore(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM contributed_bets WHERE created_at < ?",
+                cutoff.atOffset(ZoneOffset.UTC));
+    }
+
+    private Set<UUID> claimReturning(Collection<UUID> betIds, OffsetDateTime createdAt) {
+        return jdbcTemplate.execute((ConnectionCallback<Set<UUID>>) connection -> {
+            Array ids = connection.createArrayOf("uuid", betIds.toArray());
+            try (PreparedStatement statement = connection.prepareStatement(POSTGRES_CLAIM)) {
+                statement.setObject(1, createdAt);
+                statement.setArray(2, ids);
+                Set<UUID> claimed = new HashSet<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        claimed.add(rs.getObject(1, UUID.class));
+                    }
+                }
+                return claimed;
+            } finally {
+                ids.free();
+            }
+        });
+    }
+
+    // H2, used by the default and test profiles: MERGE has no RETURNING, so the statements go out as one JDBC batch
+    // and each update count tells whether its bet was claimed
+    private Set<UUID> claimBatched(Collection<UUID> betIds, OffsetDateTime createdAt) {
+        List<UUID> ids = List.copyOf(betIds);
+        int[] counts = jdbcTemplate.batchUpdate(MERGE_CLAIM, ids.stream()
+                .map(betId -> new Object[] {betId, createdAt})
+                .toList());
+        Set<UUID> claimed = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (counts[i] > 0) {
+                claimed.add(ids.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,134 @@
+package com.sporty.jackpot.repository;
+
+import com.sporty.jackpot.repository.JackpotContributionRepository.JackpotTotals;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ContributionPartitionRepository {
+
+    static final String PARENT_TABLE = "jackpot_contributions";
+    static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void createPartition(LocalDate day) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF " + PARENT_TABLE
+                + " FOR VALUES FROM ('" + startOf(day) + "') TO ('" + startOf(day.plusDays(1)) + "')");
+    }
+
+    // DETACH ... CONCURRENTLY cannot run in a transaction block, so it runs on its own auto-commit statement.
+    // A detach that was interrupted earlier is completed with FINALIZE.
+    public void detachPartition(LocalDate day) {
+        String mode = isDetachPending(day) ? "FINALIZE" : "CONCURRENTLY";
+        executeOutsideTransaction(
+                "ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName(day) + " " + mode);
+    }
+
+    public List<JackpotTotals> sumDetachedPartition(LocalDate day) {
+        return jdbcTemplate.query("SELECT jackpot_id, COUNT(*), SUM(stake_amount), SUM(contribution_amount) FROM "
+                        + partitionName(day) + " GROUP BY jackpot_id",
+                (rs, rowNum) -> new PartitionTotals(rs.getObject(1, UUID.class), rs.getLong(2),
+                        rs.getBigDecimal(3), rs.getBigDecimal(4)));
+    }
+
+    public void dropPartition(LocalDate day) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(day));
+    }
+
+    public List<LocalDate> findPartitionDays() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent "
+                        + "WHERE p.relname = ? AND c.relname LIKE ?",
+                        String.class, PARENT_TABLE, PARTITION_PREFIX + "%").stream()
+                .map(ContributionPartitionRepository::partitionDay)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    public List<LocalDate> findDetachedPartitionDays() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_class c "
+                        + "WHERE c.relkind = 'r' AND c.relname LIKE ? AND pg_table_is_visible(c.oid) "
+                        + "AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)",
+                        String.class, PARTITION_PREFIX + "%").stream()
+                .map(ContributionPartitionRepository::partitionDay)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    private boolean isDetachPending(LocalDate day) {
+        return jdbcTemplate.queryForList("SELECT i.inhdetachpending FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid WHERE c.relname = ?",
+                        Boolean.class, partitionName(day)).contains(Boolean.TRUE);
+    }
+
+    private void executeOutsideTransaction(String sql) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + SUFFIX_FORMAT.format(day);
+    }
+
+    static LocalDate partitionDay(String partitionName) {
+        String suffix = partitionName.substring(PARTITION_PREFIX.length());
+        if (suffix.length() != 8 || !suffix.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return LocalDate.parse(suffix, SUFFIX_FORMAT);
+    }
+
+    private static String startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant().toString();
+    }
+
+    private record PartitionTotals(UUID jackpotId, long contributionCount, BigDecimal stakeAmount,
+                                   BigDecimal contributionAmount) implements JackpotTotals {
+
+        @Override
+        public UUID getJackpotId() {
+            return jackpotId;
+        }
+
+        @Override
+        public long getContributionCount() {
+            return contributionCount;
+        }
+
+        @Override
+        public BigDecimal getStakeAmount() {
+            return stakeAmount;
+        }
+
+        @Override
+        public BigDecimal getContributionAmount() {
+            return contributionAmount;
+        }
+    }
+}
@@ -1,18 +1,70 @@
 package com.sporty.jackpot.repository;
 
+import com.sporty.jackpot.dto.ContributionHistoryDto;
 import com.sporty.jackpot.entity.JackpotContribution;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JackpotContributionRepository extends JpaRepository<JackpotContribution, UUID> {
 
+    String HISTORY_SELECT = "SELECT new com.sporty.jackpot.dto.ContributionHistoryDto(c.id, c.betId, c.jackpotId, "
+            + "c.stakeAmount, c.contributionAmount, c.currentJackpotAmount, c.createdAt) FROM JackpotContribution c ";
+
     List<JackpotContribution> findByBetId(UUID betId);
 
-    List<JackpotContribution> findByUserId(UUID userId);
+    boolean existsByBetId(UUID betId);
+
+    @Query("SELECT c.betId FROM JackpotContribution c "
+            + "WHERE c.jackpotId = :jackpotId AND c.betId IN :betIds AND c.createdAt >= :since")
+    List<UUID> findContributedBetIds(@Param("jackpotId") UUID jackpotId,
+                                     @Param("betIds") Collection<UUID> betIds,
+                                     @Param("since") Instant since);
+
+    @Query(HISTORY_SELECT + "WHERE c.userId = :userId ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContributionHistoryDto> findHistoryByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query(HISTORY_SELECT + "WHERE c.userId = :userId AND (c.createdAt < :createdAt "
+            + "OR (c.createdAt = :createdAt AND c.id < :id)) ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContributionHistoryDto> findHistoryByUserIdBefore(@Param("userId") UUID userId,
+                                                           @Param("createdAt") Instant createdAt,
+                                                           @Param("id") UUID id,
+                                                           Limit limit);
+
+    @Query("SELECT COALESCE(SUM(c.contributionAmount), 0) FROM JackpotContribution c "
+            + "WHERE c.jackpotId = :jackpotId AND c.createdAt > :since")
+    BigDecimal sumContributionAmountSince(@Param("jackpotId") UUID jackpotId, @Param("since") Instant since);
+
+    Optional<JackpotContribution> findFirstByOrderByCreatedAtAsc();
+
+    @Query("SELECT c.jackpotId AS jackpotId, COUNT(c) AS contributionCount, SUM(c.stakeAmount) AS stakeAmount, "
+            + "SUM(c.contributionAmount) AS contributionAmount FROM JackpotContribution c "
+            + "WHERE c.createdAt >= :from AND c.createdAt < :to GROUP BY c.jackpotId")
+    List<JackpotTotals> sumByJackpotCreatedBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM JackpotContribution c WHERE c.createdAt >= :from AND c.createdAt < :to")
+    int deleteCreatedBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    interface JackpotTotals {
+
+        UUID getJackpotId();
+
+        long getContributionCount();
+
+        BigDecimal getStakeAmount();
 
-    List<JackpotContribution> findByJackpotId(UUID jackpotId);
+        BigDecimal getContributionAmount();
+    }
 }
@@ -0,0 +1,18 @@
+package com.sporty.jackpot.repository;
+
+import com.sporty.jackpot.entity.JackpotContributionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JackpotContributionRollupRepository extends JpaRepository<JackpotContributionRollup, UUID> {
+
+    List<JackpotContributionRollup> findByContributionDate(LocalDate contributionDate);
+
+    List<JackpotContributionRollup> findByJackpotIdAndContributionDateBetweenOrderByContributionDate(
+            UUID jackpotId, LocalDate from, LocalDate to);
+}
@@ -1,20 +1,59 @@
 package com.sporty.jackpot.repository;
 
+import com.sporty.jackpot.dto.JackpotDto;
 import com.sporty.jackpot.entity.Jackpot;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JackpotRepository extends JpaRepository<Jackpot, UUID> {
 
+    @Query("SELECT new com.sporty.jackpot.dto.JackpotDto(j.id, j.name, j.initialPoolValue, j.currentPoolValue, "
+            + "j.contributionType, j.contributionPercentage, j.rewardType, j.rewardChancePercentage, j.maxPoolLimit, "
+            + "j.randomSource, j.createdAt, j.updatedAt) FROM Jackpot j WHERE j.id = :id")
+    Optional<JackpotDto> findDtoById(@Param("id") UUID id);
+
+    List<Jackpot> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+
+    @Query("SELECT j FROM Jackpot j WHERE j.createdAt > :createdAt "
+            + "OR (j.createdAt = :createdAt AND j.id > :id) ORDER BY j.createdAt, j.id")
+    List<Jackpot> findPageAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT j FROM Jackpot j WHERE j.id = :id")
     Optional<Jackpot> findByIdWithLock(@Param("id") UUID id);
+
+    @Query(value = "SELECT current_pool_value FROM jackpots WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<BigDecimal> findPoolValueForUpdate(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Jackpot j SET j.currentPoolValue = :poolValue, j.updatedAt = :updatedAt, "
+            + "j.version = j.version + 1 WHERE j.id = :id")
+    int setPoolValue(@Param("id") UUID id,
+                     @Param("poolValue") BigDecimal poolValue,
+                     @Param("updatedAt") Instant updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Jackpot j SET j.currentPoolValue = :poolValue, j.updatedAt = :updatedAt, "
+            + "j.version = j.version + 1 WHERE j.id = :id AND j.version = :version")
+    int updatePoolValue(@Param("id") UUID id,
+                        @Param("poolValue") BigDecimal poolValue,
+                        @Param("version") Long version,
+                        @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("UPDATE Jackpot j SET j.version = j.version + 1 WHERE j.id = :id")
+    int incrementVersion(@Param("id") UUID id);
 }
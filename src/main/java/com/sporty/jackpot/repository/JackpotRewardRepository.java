@@ -1,9 +1,15 @@
 package com.sporty.jackpot.repository;
 
+import com.sporty.jackpot.dto.RewardHistoryDto;
 import com.sporty.jackpot.entity.JackpotReward;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,7 +17,24 @@ import java.util.UUID;
 @Repository
 public interface JackpotRewardRepository extends JpaRepository<JackpotReward, UUID> {
 
+    String HISTORY_SELECT = "SELECT new com.sporty.jackpot.dto.RewardHistoryDto(r.id, r.betId, r.jackpotId, "
+            + "r.rewardAmount, r.createdAt) FROM JackpotReward r ";
+
     Optional<JackpotReward> findByBetId(UUID betId);
 
-    List<JackpotReward> findByUserId(UUID userId);
+    @Query("SELECT COALESCE(SUM(r.rewardAmount), 0) FROM JackpotReward r "
+            + "WHERE r.jackpotId = :jackpotId AND r.createdAt > :since")
+    BigDecimal sumRewardAmountSince(@Param("jackpotId") UUID jackpotId, @Param("since") Instant since);
+
+    long countByJackpotIdAndCreatedAtAfter(UUID jackpotId, Instant since);
+
+    @Query(HISTORY_SELECT + "WHERE r.userId = :userId ORDER BY r.createdAt DESC, r.id DESC")
+    List<RewardHistoryDto> findHistoryByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query(HISTORY_SELECT + "WHERE r.userId = :userId AND (r.createdAt < :createdAt "
+            + "OR (r.createdAt = :createdAt AND r.id < :id)) ORDER BY r.createdAt DESC, r.id DESC")
+    List<RewardHistoryDto> findHistoryByUserIdBefore(@Param("userId") UUID userId,
+                                                     @Param("createdAt") Instant createdAt,
+                                                     @Param("id") UUID id,
+                                                     Limit limit);
 }
@@ -3,14 +3,20 @@ package com.sporty.jackpot.service;
 import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.dto.BetRequest;
 import com.sporty.jackpot.entity.Bet;
+import com.sporty.jackpot.entity.BetOutboxEntry;
 import com.sporty.jackpot.entity.BetStatus;
 import com.sporty.jackpot.exception.BetNotFoundException;
+import com.sporty.jackpot.repository.BetOutboxRepository;
 import com.sporty.jackpot.repository.BetRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -19,23 +25,49 @@ import java.util.UUID;
 public class BetService {
 
     private final BetRepository betRepository;
+    private final BetOutboxRepository outboxRepository;
+    private final BetStatusCache statusCache;
+    private final BetStatusNotifier statusNotifier;
+
+    @Value("${jackpot.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
+    public boolean isOutboxEnabled() {
+        return outboxEnabled;
+    }
 
     @Transactional
     public Bet createBet(UUID betId, BetRequest request) {
-        Bet bet = Bet.builder()
-                .id(betId)
-                .userId(request.getUserId())
-                .jackpotId(request.getJackpotId())
-                .betAmount(request.getBetAmount())
-                .status(BetStatus.PENDING)
-                .build();
+        Bet saved = betRepository.save(newBet(betId, request));
+
+        if (outboxEnabled) {
+            outboxRepository.save(toOutboxEntry(saved));
+        }
+        statusCache.record(betId, saved.getStatus());
 
-        Bet saved = betRepository.save(bet);
         log.info("Created bet {} for user {} on jackpot {}", betId, request.getUserId(), request.getJackpotId());
 
         return saved;
     }
 
+    @Transactional
+    public List<Bet> createBets(List<BetRequest> requests) {
+        List<Bet> bets = requests.stream()
+                .map(request -> newBet(UUID.randomUUID(), request))
+                .toList();
+
+        List<Bet> saved = betRepository.saveAll(bets);
+
+        if (outboxEnabled) {
+            outboxRepository.saveAll(saved.stream().map(BetService::toOutboxEntry).toList());
+        }
+        statusCache.recordAll(saved.stream().map(Bet::getId).toList(), BetStatus.PENDING);
+
+        log.info("Created batch of {} bets", saved.size());
+
+        return saved;
+    }
+
     @Transactional
     public void updateStatus(UUID betId, BetStatus status) {
         Bet bet = betRepository.findById(betId)
@@ -43,17 +75,84 @@ public class BetService {
 
         bet.setStatus(status);
         betRepository.save(bet);
+        statusCache.record(betId, status);
+        statusNotifier.publish(betId, status);
         log.debug("Updated bet {} status to {}", betId, status);
     }
 
-    @Transactional(readOnly = true)
-    public Bet getBet(UUID betId) {
-        return betRepository.findById(betId)
-                .orElseThrow(() -> new BetNotFoundException(betId));
+    @Transactional
+    public boolean transitionStatus(UUID betId, BetStatus expected, BetStatus status) {
+        int updated = betRepository.updateStatusIfCurrent(betId, expected, status, Instant.now());
+        if (updated == 0) {
+            log.debug("Bet {} is no longer {}, not moving it to {}", betId, expected, status);
+            return false;
+        }
+        statusCache.record(betId, status);
+        statusNotifier.publish(betId, status);
+        log.debug("Updated bet {} status from {} to {}", betId, expected, status);
+        return true;
+    }
+
+    // Called once the consumer has given up on the bets. A bet that was processed by an earlier delivery keeps
+    // its PROCESSED status.
+    @Transactional
+    public int markFailed(Collection<UUID> betIds) {
+        if (betIds.isEmpty()) {
+            return 0;
+        }
+        int updated = betRepository.updateStatusByIdInUnless(betIds, BetStatus.PROCESSED, BetStatus.FAILED,
+                Instant.now());
+        Collection<UUID> failed = updated == betIds.size()
+                ? betIds
+                : betRepository.findIdsByIdInAndStatus(betIds, BetStatus.FAILED);
+        statusCache.recordAll(failed, BetStatus.FAILED);
+        statusNotifier.publishAll(failed, BetStatus.FAILED);
+        log.debug("Marked {} of {} bets FAILED", updated, betIds.size());
+        return updated;
+    }
+
+    @Transactional
+    public int transitionStatuses(Collection<UUID> betIds, BetStatus expected, BetStatus status) {
+        if (betIds.isEmpty()) {
+            return 0;
+        }
+        int updated = betRepository.updateStatusByIdInIfCurrent(betIds, expected, status, Instant.now());
+        Collection<UUID> current = updated == betIds.size()
+                ? betIds
+                : betRepository.findIdsByIdInAndStatus(betIds, status);
+        statusCache.recordAll(current, status);
+        statusNotifier.publishAll(current, status);
+        log.debug("Updated {} of {} bets from {} to {}", updated, betIds.size(), expected, status);
+        return updated;
+    }
+
+    public BetStatus getBetStatus(UUID betId) {
+        return statusCache.get(betId, id -> betRepository.findStatusById(id)
+                .orElseThrow(() -> new BetNotFoundException(id)));
     }
 
     public BetMessage toMessage(Bet bet) {
         return BetMessage.builder()
+                .betId(bet.getId())
+                .userId(bet.getUserId())
+                .jackpotId(bet.getJackpotId())
+                .betAmount(bet.getBetAmount())
+                .createdAtMillis(bet.getCreatedAt() != null ? bet.getCreatedAt().toEpochMilli() : null)
+                .build();
+    }
+
+    private static Bet newBet(UUID betId, BetRequest request) {
+        return Bet.builder()
+                .id(betId)
+                .userId(request.getUserId())
+                .jackpotId(request.getJackpotId())
+                .betAmount(request.getBetAmount())
+                .status(BetStatus.PENDING)
+                .build();
+    }
+
+    private static BetOutboxEntry toOutboxEntry(Bet bet) {
+        return BetOutboxEntry.builder()
                 .betId(bet.getId())
                 .userId(bet.getUserId())
                 .jackpotId(bet.getJackpotId())
@@ -0,0 +1,103 @@
+package com.sporty.jackpot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sporty.jackpot.entity.BetStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class BetStatusCache {
+
+    private final boolean enabled;
+    private final Cache<UUID, BetStatus> cache;
+
+    public BetStatusCache(@Value("${jackpot.bet-status-cache.enabled:false}") boolean enabled,
+                          @Value("${jackpot.bet-status-cache.max-size:100000}") long maxSize,
+                          @Value("${jackpot.bet-status-cache.ttl:10m}") Duration ttl,
+                          @Value("${jackpot.bet-status-cache.in-flight-ttl:5s}") Duration inFlightTtl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StatusExpiry(ttl, inFlightTtl))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public BetStatus get(UUID betId, Function<UUID, BetStatus> loader) {
+        if (!enabled) {
+            return loader.apply(betId);
+        }
+
+        BetStatus cached = cache.getIfPresent(betId);
+        if (cached != null) {
+            return cached;
+        }
+        return merge(betId, loader.apply(betId));
+    }
+
+    public void record(UUID betId, BetStatus status) {
+        if (enabled) {
+            TransactionCallbacks.afterCommit(() -> merge(betId, status));
+        }
+    }
+
+    public void recordAll(Collection<UUID> betIds, BetStatus status) {
+        if (enabled && !betIds.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> betIds.forEach(betId -> merge(betId, status)));
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private BetStatus merge(UUID betId, BetStatus status) {
+        return cache.asMap().merge(betId, status, BetStatusCache::latest);
+    }
+
+    static BetStatus latest(BetStatus current, BetStatus update) {
+        return rank(update) >= rank(current) ? update : current;
+    }
+
+    private static int rank(BetStatus status) {
+        return switch (status) {
+            case PENDING -> 0;
+            case PUBLISHED -> 1;
+            case PROCESSING -> 2;
+            case FAILED -> 3;
+            case PROCESSED -> 4;
+        };
+    }
+
+    private record StatusExpiry(Duration ttl, Duration inFlightTtl) implements Expiry<UUID, BetStatus> {
+
+        @Override
+        public long expireAfterCreate(UUID betId, BetStatus status, long currentTime) {
+            return ttlOf(status);
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID betId, BetStatus status, long currentTime, long currentDuration) {
+            return ttlOf(status);
+        }
+
+        @Override
+        public long expireAfterRead(UUID betId, BetStatus status, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long ttlOf(BetStatus status) {
+            return (status == BetStatus.PROCESSED ? ttl : inFlightTtl).toNanos();
+        }
+    }
+}
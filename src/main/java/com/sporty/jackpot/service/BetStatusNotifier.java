@@ -0,0 +1,118 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.BetStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+public class BetStatusNotifier {
+
+    private final Map<UUID, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final TaskExecutor betEventExecutor;
+
+    public BetStatusNotifier(TaskExecutor betEventExecutor) {
+        this.betEventExecutor = betEventExecutor;
+    }
+
+    // FAILED is only published once a bet is given up on: its publish failed or the consumer exhausted its retries
+    public static boolean isFinal(BetStatus status) {
+        return status == BetStatus.PROCESSED || status == BetStatus.FAILED;
+    }
+
+    public Subscription subscribe(UUID betId, Consumer<BetStatus> subscriber) {
+        Subscription subscription = new Subscription(betId, subscriber);
+        subscribers.computeIfAbsent(betId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        return subscription;
+    }
+
+    public void publish(UUID betId, BetStatus status) {
+        TransactionCallbacks.afterCommit(() -> dispatch(betId, status));
+    }
+
+    public void publishAll(Collection<UUID> betIds, BetStatus status) {
+        if (subscribers.isEmpty() || betIds.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> betIds.forEach(betId -> dispatch(betId, status)));
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void dispatch(UUID betId, BetStatus status) {
+        Set<Subscription> current = subscribers.get(betId);
+        if (current == null) {
+            return;
+        }
+        current.forEach(subscription -> subscription.deliver(status));
+    }
+
+    // Statuses reach a subscriber one at a time, in the order they were delivered. A status that is not newer than
+    // the last one passed on is dropped, so a late initial read cannot follow the transition it raced with.
+    public final class Subscription {
+
+        private final UUID betId;
+        private final Consumer<BetStatus> subscriber;
+        private final Queue<BetStatus> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private BetStatus last;
+
+        private Subscription(UUID betId, Consumer<BetStatus> subscriber) {
+            this.betId = betId;
+            this.subscriber = subscriber;
+        }
+
+        public void deliver(BetStatus status) {
+            pending.add(status);
+            schedule();
+        }
+
+        public void cancel() {
+            subscribers.computeIfPresent(betId, (id, current) -> {
+                current.remove(this);
+                return current.isEmpty() ? null : current;
+            });
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                betEventExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            BetStatus status;
+            while ((status = pending.poll()) != null) {
+                if (last == null || (status != last && BetStatusCache.latest(last, status) == status)) {
+                    last = status;
+                    send(status);
+                }
+            }
+            scheduled.set(false);
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(BetStatus status) {
+            try {
+                subscriber.accept(status);
+            } catch (RuntimeException e) {
+                log.debug("Failed to notify subscriber of bet {}: {}", betId, e.getMessage());
+            }
+        }
+    }
+}
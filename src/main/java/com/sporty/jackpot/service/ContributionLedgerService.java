@@ -0,0 +1,201 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.JackpotContribution;
+import com.sporty.jackpot.entity.JackpotContributionRollup;
+import com.sporty.jackpot.repository.ContributedBetRepository;
+import com.sporty.jackpot.repository.ContributionPartitionRepository;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotContributionRepository.JackpotTotals;
+import com.sporty.jackpot.repository.JackpotContributionRollupRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class ContributionLedgerService {
+
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotContributionRollupRepository rollupRepository;
+    private final ContributionPartitionRepository partitionRepository;
+    private final ContributedBetRepository contributedBetRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jackpot.ledger.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+
+    @Value("${jackpot.ledger.partitioning.precreate-days:7}")
+    private int precreateDays;
+
+    @Value("${jackpot.ledger.retention-days:0}")
+    private int retentionDays;
+
+    @Value("${jackpot.contribution.idempotent.window:7d}")
+    private Duration idempotentWindow;
+
+    public ContributionLedgerService(JackpotContributionRepository contributionRepository,
+                                     JackpotContributionRollupRepository rollupRepository,
+                                     ContributionPartitionRepository partitionRepository,
+                                     ContributedBetRepository contributedBetRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.contributionRepository = contributionRepository;
+        this.rollupRepository = rollupRepository;
+        this.partitionRepository = partitionRepository;
+        this.contributedBetRepository = contributedBetRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (partitioningEnabled) {
+            createPartitions(today());
+        }
+    }
+
+    @Scheduled(cron = "${jackpot.ledger.maintenance-cron:0 5 0 * * *}", zone = "UTC")
+    public void runMaintenance() {
+        try {
+            LocalDate today = today();
+            if (partitioningEnabled) {
+                createPartitions(today);
+            }
+            if (retentionDays > 0) {
+                rollUpBefore(today.minusDays(retentionDays));
+            }
+        } catch (RuntimeException e) {
+            log.error("Contribution ledger maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // The dedupe table only has to cover the idempotency window, whatever the ledger retention is
+    @Scheduled(cron = "${jackpot.contribution.idempotent.prune-cron:0 15 * * * *}", zone = "UTC")
+    public void pruneContributedBets() {
+        try {
+            Instant cutoff = Instant.now().minus(idempotentWindow);
+            int pruned = contributedBetRepository.deleteCreatedBefore(cutoff);
+            if (pruned > 0) {
+                log.info("Pruned {} contributed bet ids older than {}", pruned, cutoff);
+            }
+        } catch (RuntimeException e) {
+            log.error("Contributed bet pruning failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // Each day is created on its own so one failing day does not keep the others, or the rollup, from running
+    public void createPartitions(LocalDate from) {
+        for (int i = 0; i <= precreateDays; i++) {
+            LocalDate day = from.plusDays(i);
+            try {
+                partitionRepository.createPartition(day);
+            } catch (RuntimeException e) {
+                log.error("Could not create contribution partition for {}: {}", day, e.getMessage());
+            }
+        }
+        log.debug("Contribution partitions ensured from {} for {} days ahead", from, precreateDays);
+    }
+
+    public int rollUpBefore(LocalDate cutoff) {
+        int days = partitioningEnabled ? rollUpPartitionsBefore(cutoff) : 0;
+
+        Optional<LocalDate> oldest;
+        while ((oldest = oldestContributionDay()).isPresent() && oldest.get().isBefore(cutoff)) {
+            LocalDate day = oldest.get();
+            transactionTemplate.executeWithoutResult(tx -> rollUpDay(day));
+            days++;
+        }
+
+        if (days > 0) {
+            log.info("Rolled up {} days of jackpot contributions older than {}", days, cutoff);
+        }
+        return days;
+    }
+
+    // Partitions are detached concurrently outside any transaction, which keeps the ACCESS EXCLUSIVE lock of a
+    // DROP off the parent table. Each detached day is then rolled up and dropped in one transaction; a day left
+    // detached by an earlier failed run is picked up again here.
+    private int rollUpPartitionsBefore(LocalDate cutoff) {
+        for (LocalDate day : partitionRepository.findPartitionDays()) {
+            if (day.isBefore(cutoff)) {
+                partitionRepository.detachPartition(day);
+            }
+        }
+
+        List<LocalDate> detached = partitionRepository.findDetachedPartitionDays();
+        for (LocalDate day : detached) {
+            transactionTemplate.executeWithoutResult(tx -> {
+                saveRollups(day, partitionRepository.sumDetachedPartition(day));
+                partitionRepository.dropPartition(day);
+            });
+            log.debug("Rolled up and dropped contribution partition of {}", day);
+        }
+        return detached.size();
+    }
+
+    private Optional<LocalDate> oldestContributionDay() {
+        return contributionRepository.findFirstByOrderByCreatedAtAsc()
+                .map(JackpotContribution::getCreatedAt)
+                .map(createdAt -> LocalDate.ofInstant(createdAt, ZoneOffset.UTC));
+    }
+
+    private void rollUpDay(LocalDate day) {
+        Instant from = startOf(day);
+        Instant to = startOf(day.plusDays(1));
+
+        int rollups = saveRollups(day, contributionRepository.sumByJackpotCreatedBetween(from, to));
+        int deleted = contributionRepository.deleteCreatedBetween(from, to);
+
+        log.debug("Rolled up contributions of {} into {} jackpot totals ({} rows deleted)",
+                day, rollups, deleted);
+    }
+
+    private int saveRollups(LocalDate day, List<JackpotTotals> totals) {
+        Map<UUID, JackpotContributionRollup> existing = rollupRepository.findByContributionDate(day).stream()
+                .collect(Collectors.toMap(JackpotContributionRollup::getJackpotId, Function.identity()));
+
+        List<JackpotContributionRollup> rollups = totals.stream()
+                .map(t -> merge(existing.get(t.getJackpotId()), day, t))
+                .toList();
+        rollupRepository.saveAll(rollups);
+        return rollups.size();
+    }
+
+    private static JackpotContributionRollup merge(JackpotContributionRollup rollup, LocalDate day,
+                                                   JackpotTotals totals) {
+        if (rollup == null) {
+            return JackpotContributionRollup.builder()
+                    .jackpotId(totals.getJackpotId())
+                    .contributionDate(day)
+                    .contributionCount(totals.getContributionCount())
+                    .stakeAmount(totals.getStakeAmount())
+                    .contributionAmount(totals.getContributionAmount())
+                    .build();
+        }
+        rollup.setContributionCount(rollup.getContributionCount() + totals.getContributionCount());
+        rollup.setStakeAmount(rollup.getStakeAmount().add(totals.getStakeAmount()));
+        rollup.setContributionAmount(rollup.getContributionAmount().add(totals.getContributionAmount()));
+        return rollup;
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RandomSourceType;
+import com.sporty.jackpot.entity.RewardType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record JackpotConfig(
+        UUID id,
+        String name,
+        BigDecimal initialPoolValue,
+        ContributionType contributionType,
+        BigDecimal contributionPercentage,
+        RewardType rewardType,
+        BigDecimal rewardChancePercentage,
+        BigDecimal maxPoolLimit,
+        RandomSourceType randomSource) {
+
+    public static JackpotConfig of(Jackpot jackpot) {
+        return new JackpotConfig(
+                jackpot.getId(),
+                jackpot.getName(),
+                jackpot.getInitialPoolValue(),
+                jackpot.getContributionType(),
+                jackpot.getContributionPercentage(),
+                jackpot.getRewardType(),
+                jackpot.getRewardChancePercentage(),
+                jackpot.getMaxPoolLimit(),
+                jackpot.getRandomSource());
+    }
+
+    public Jackpot toJackpot(BigDecimal currentPoolValue) {
+        return Jackpot.builder()
+                .id(id)
+                .name(name)
+                .initialPoolValue(initialPoolValue)
+                .currentPoolValue(currentPoolValue)
+                .contributionType(contributionType)
+                .contributionPercentage(contributionPercentage)
+                .rewardType(rewardType)
+                .rewardChancePercentage(rewardChancePercentage)
+                .maxPoolLimit(maxPoolLimit)
+                .randomSource(randomSource)
+                .build();
+    }
+}
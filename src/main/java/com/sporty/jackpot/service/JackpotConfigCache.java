@@ -0,0 +1,42 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.exception.JackpotNotFoundException;
+import com.sporty.jackpot.repository.JackpotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JackpotConfigCache {
+
+    public static final String CACHE_NAME = "jackpot-config";
+
+    private final JackpotRepository jackpotRepository;
+
+    @Value("${jackpot.config-cache.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME)
+    public JackpotConfig get(UUID jackpotId) {
+        log.debug("Loading configuration of jackpot {}", jackpotId);
+        return jackpotRepository.findById(jackpotId)
+                .map(JackpotConfig::of)
+                .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+    }
+
+    @CachePut(cacheNames = CACHE_NAME, key = "#config.id()")
+    public JackpotConfig put(JackpotConfig config) {
+        return config;
+    }
+}
@@ -3,18 +3,30 @@ package com.sporty.jackpot.service;
 import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.entity.Jackpot;
 import com.sporty.jackpot.entity.JackpotContribution;
+import com.sporty.jackpot.entity.JackpotReward;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
+import com.sporty.jackpot.repository.ContributedBetRepository;
 import com.sporty.jackpot.repository.JackpotContributionRepository;
 import com.sporty.jackpot.repository.JackpotRepository;
+import com.sporty.jackpot.repository.JackpotRewardRepository;
 import com.sporty.jackpot.strategy.contribution.ContributionStrategy;
 import com.sporty.jackpot.strategy.contribution.ContributionStrategyFactory;
+import com.sporty.jackpot.strategy.contribution.ScaledMoney;
+import com.sporty.jackpot.strategy.reward.RewardStrategy;
+import com.sporty.jackpot.strategy.reward.RewardStrategyFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -25,61 +37,229 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JackpotContributionService {
 
+    static final String PROCESS_TIMER = "jackpot.contributions.process";
+    static final String CONTRIBUTION_COUNTER = "jackpot.contributions";
+    static final String LOCK_WAIT_TIMER = "jackpot.pool.lock.wait";
+    static final String DUPLICATE_COUNTER = "jackpot.contributions.duplicates";
+
     private final JackpotRepository jackpotRepository;
     private final JackpotContributionRepository contributionRepository;
+    private final ContributedBetRepository contributedBetRepository;
     private final ContributionStrategyFactory strategyFactory;
+    private final JackpotPoolAccumulator poolAccumulator;
+    private final JackpotConfigCache configCache;
+    private final JackpotRewardRepository rewardRepository;
+    private final RewardStrategyFactory rewardStrategyFactory;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jackpot.contribution.fixed-point.enabled:false}")
+    private boolean fixedPointEnabled;
+
+    @Value("${jackpot.reward.fused.enabled:false}")
+    private boolean fusedRewardEnabled;
+
+    @Value("${jackpot.contribution.idempotent.enabled:true}")
+    private boolean idempotentEnabled;
+
+    @Value("${jackpot.contribution.idempotent.window:7d}")
+    private Duration idempotentWindow;
 
     @Transactional
     public List<JackpotContribution> processBatch(List<BetMessage> bets) {
         log.debug("Processing batch of {} bets", bets.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
 
         Map<UUID, List<BetMessage>> betsByJackpot = bets.stream()
                 .collect(Collectors.groupingBy(BetMessage::getJackpotId));
 
         List<JackpotContribution> allContributions = new ArrayList<>();
+        List<JackpotReward> allRewards = new ArrayList<>();
 
         for (var entry : betsByJackpot.entrySet()) {
             UUID jackpotId = entry.getKey();
             List<BetMessage> jackpotBets = entry.getValue();
 
-            List<JackpotContribution> contributions = processJackpotBets(jackpotId, jackpotBets);
+            List<JackpotContribution> contributions = processJackpotBets(jackpotId, jackpotBets, allRewards);
             allContributions.addAll(contributions);
+            meterRegistry.counter(CONTRIBUTION_COUNTER, "jackpot", jackpotId.toString())
+                    .increment(contributions.size());
         }
 
         contributionRepository.saveAll(allContributions);
         log.debug("Saved {} contributions", allContributions.size());
 
+        if (!allRewards.isEmpty()) {
+            rewardRepository.saveAll(allRewards);
+            allRewards.forEach(r -> log.info("Bet {} won jackpot {}! Reward: {}",
+                    r.getBetId(), r.getJackpotId(), r.getRewardAmount()));
+        }
+
+        sample.stop(meterRegistry.timer(PROCESS_TIMER));
         return allContributions;
     }
 
-    private List<JackpotContribution> processJackpotBets(UUID jackpotId, List<BetMessage> bets) {
-        Jackpot jackpot = jackpotRepository.findByIdWithLock(jackpotId)
-                .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+    private List<JackpotContribution> processJackpotBets(UUID jackpotId, List<BetMessage> bets,
+                                                         List<JackpotReward> rewards) {
+        Jackpot jackpot = acquireJackpot(jackpotId);
+
+        List<BetMessage> newBets = idempotentEnabled ? withoutContributedBets(jackpotId, bets) : bets;
+        if (newBets.isEmpty()) {
+            return List.of();
+        }
 
         ContributionStrategy strategy = strategyFactory.getStrategy(jackpot.getContributionType());
+        RewardStrategy rewardStrategy = fusedRewardEnabled
+                ? rewardStrategyFactory.getStrategy(jackpot.getRewardType())
+                : null;
+
+        int rewardsBefore = rewards.size();
+        List<JackpotContribution> contributions = fixedPointEnabled
+                ? contributeFixedPoint(jackpotId, jackpot, strategy, rewardStrategy, newBets, rewards)
+                : contribute(jackpotId, jackpot, strategy, rewardStrategy, newBets, rewards);
 
-        List<JackpotContribution> contributions = new ArrayList<>();
+        if (poolAccumulator.isEnabled()) {
+            poolAccumulator.markUpdated(jackpotId, contributions.size());
+            if (rewards.size() > rewardsBefore) {
+                poolAccumulator.markReset(jackpotId);
+            }
+        } else if (configCache.isEnabled()) {
+            jackpotRepository.setPoolValue(jackpotId, jackpot.getCurrentPoolValue(), Instant.now());
+        } else {
+            jackpotRepository.save(jackpot);
+        }
+
+        return contributions;
+    }
+
+    private List<BetMessage> withoutContributedBets(UUID jackpotId, List<BetMessage> bets) {
+        Map<UUID, BetMessage> betsById = new LinkedHashMap<>();
+        for (BetMessage bet : bets) {
+            betsById.putIfAbsent(bet.getBetId(), bet);
+        }
+        Instant now = Instant.now();
+        contributionRepository.findContributedBetIds(jackpotId, betsById.keySet(),
+                now.minus(idempotentWindow)).forEach(betsById::remove);
+        // The ledger lookup is only a pre-filter: the accumulator's lock is per instance, so another instance can
+        // contribute the same bet concurrently. The contributed_bets primary key decides which of them keeps it.
+        if (!betsById.isEmpty()) {
+            betsById.keySet().retainAll(contributedBetRepository.claim(betsById.keySet(), now));
+        }
+
+        int duplicates = bets.size() - betsById.size();
+        if (duplicates == 0) {
+            return bets;
+        }
+        meterRegistry.counter(DUPLICATE_COUNTER).increment(duplicates);
+        log.info("Skipped {} already contributed bets of jackpot {}", duplicates, jackpotId);
+        return new ArrayList<>(betsById.values());
+    }
+
+    private Jackpot acquireJackpot(UUID jackpotId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Jackpot jackpot = lockJackpot(jackpotId);
+        sample.stop(meterRegistry.timer(LOCK_WAIT_TIMER, "operation", "contribution"));
+        return jackpot;
+    }
+
+    private Jackpot lockJackpot(UUID jackpotId) {
+        if (poolAccumulator.isEnabled()) {
+            return poolAccumulator.acquire(jackpotId);
+        }
+        if (configCache.isEnabled()) {
+            BigDecimal poolValue = jackpotRepository.findPoolValueForUpdate(jackpotId)
+                    .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+            return configCache.get(jackpotId).toJackpot(poolValue);
+        }
+        return jackpotRepository.findByIdWithLock(jackpotId)
+                .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+    }
+
+    private List<JackpotContribution> contribute(UUID jackpotId, Jackpot jackpot, ContributionStrategy strategy,
+                                                 RewardStrategy rewardStrategy, List<BetMessage> bets,
+                                                 List<JackpotReward> rewards) {
+        List<JackpotContribution> contributions = new ArrayList<>(bets.size());
 
         for (BetMessage bet : bets) {
             BigDecimal contribution = strategy.calculateContribution(bet.getBetAmount(), jackpot);
 
             jackpot.setCurrentPoolValue(jackpot.getCurrentPoolValue().add(contribution));
 
-            contributions.add(JackpotContribution.builder()
-                    .betId(bet.getBetId())
-                    .userId(bet.getUserId())
-                    .jackpotId(jackpotId)
-                    .stakeAmount(bet.getBetAmount())
-                    .contributionAmount(contribution)
-                    .currentJackpotAmount(jackpot.getCurrentPoolValue())
-                    .build());
-        }
+            contributions.add(toContribution(jackpotId, bet, contribution, jackpot.getCurrentPoolValue()));
 
-        jackpotRepository.save(jackpot);
+            if (rewardStrategy != null && rewardStrategy.evaluateWin(jackpot)) {
+                rewards.add(toReward(jackpotId, bet, jackpot.getCurrentPoolValue()));
+                jackpot.setCurrentPoolValue(jackpot.getInitialPoolValue());
+            }
+        }
 
         return contributions;
     }
 
+    private List<JackpotContribution> contributeFixedPoint(UUID jackpotId, Jackpot jackpot,
+                                                           ContributionStrategy strategy,
+                                                           RewardStrategy rewardStrategy, List<BetMessage> bets,
+                                                           List<JackpotReward> rewards) {
+        BigDecimal startPoolValue = jackpot.getCurrentPoolValue();
+        try {
+            long contributionPercentage = ScaledMoney.toScaled(jackpot.getContributionPercentage());
+            long maxPoolLimit = ScaledMoney.toScaledOrZero(jackpot.getMaxPoolLimit());
+            long poolValue = ScaledMoney.toScaled(startPoolValue);
+            long initialPoolValue = rewardStrategy != null ? ScaledMoney.toScaled(jackpot.getInitialPoolValue()) : 0L;
+
+            List<JackpotContribution> contributions = new ArrayList<>(bets.size());
+            List<JackpotReward> wins = new ArrayList<>();
+
+            for (BetMessage bet : bets) {
+                long contribution = strategy.calculateScaledContribution(
+                        ScaledMoney.toScaled(bet.getBetAmount()), contributionPercentage, poolValue, maxPoolLimit);
+
+                poolValue = Math.addExact(poolValue, contribution);
+                BigDecimal currentPoolValue = ScaledMoney.toBigDecimal(poolValue);
+
+                contributions.add(toContribution(jackpotId, bet,
+                        ScaledMoney.toBigDecimal(contribution), currentPoolValue));
+
+                if (rewardStrategy != null) {
+                    jackpot.setCurrentPoolValue(currentPoolValue);
+                    if (rewardStrategy.evaluateWin(jackpot)) {
+                        wins.add(toReward(jackpotId, bet, currentPoolValue));
+                        poolValue = initialPoolValue;
+                    }
+                }
+            }
+
+            jackpot.setCurrentPoolValue(ScaledMoney.toBigDecimal(poolValue));
+            rewards.addAll(wins);
+            return contributions;
+        } catch (ArithmeticException e) {
+            log.debug("Amounts of jackpot {} do not fit fixed-point arithmetic, using BigDecimal: {}",
+                    jackpotId, e.getMessage());
+            jackpot.setCurrentPoolValue(startPoolValue);
+            return contribute(jackpotId, jackpot, strategy, rewardStrategy, bets, rewards);
+        }
+    }
+
+    private static JackpotContribution toContribution(UUID jackpotId, BetMessage bet,
+                                                      BigDecimal contribution, BigDecimal poolValue) {
+        return JackpotContribution.builder()
+                .betId(bet.getBetId())
+                .userId(bet.getUserId())
+                .jackpotId(jackpotId)
+                .stakeAmount(bet.getBetAmount())
+                .contributionAmount(contribution)
+                .currentJackpotAmount(poolValue)
+                .build();
+    }
+
+    private static JackpotReward toReward(UUID jackpotId, BetMessage bet, BigDecimal rewardAmount) {
+        return JackpotReward.builder()
+                .betId(bet.getBetId())
+                .userId(bet.getUserId())
+                .jackpotId(jackpotId)
+                .rewardAmount(rewardAmount)
+                .build();
+    }
+
     @Transactional
     public JackpotContribution processContribution(BetMessage bet) {
         List<JackpotContribution> contributions = processBatch(List.of(bet));
@@ -0,0 +1,306 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.exception.JackpotNotFoundException;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotRepository;
+import com.sporty.jackpot.repository.JackpotRewardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+public class JackpotPoolAccumulator {
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotRewardRepository rewardRepository;
+    private final TransactionTemplate flushTemplate;
+
+    private final Map<UUID, PoolState> pools = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> ownerPartitions = new ConcurrentHashMap<>();
+
+    @Value("${jackpot.pool.accumulator.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jackpot.pool.accumulator.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    public JackpotPoolAccumulator(JackpotRepository jackpotRepository,
+                                  JackpotContributionRepository contributionRepository,
+                                  JackpotRewardRepository rewardRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.jackpotRepository = jackpotRepository;
+        this.contributionRepository = contributionRepository;
+        this.rewardRepository = rewardRepository;
+        this.flushTemplate = new TransactionTemplate(transactionManager);
+        this.flushTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Jackpot acquire(UUID jackpotId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Jackpot pool can only be acquired inside a transaction");
+        }
+
+        PoolState state = lockState(jackpotId);
+
+        if (state.lock.getHoldCount() > 1) {
+            state.lock.unlock();
+            return state.jackpot;
+        }
+
+        BigDecimal valueBefore = state.jackpot.getCurrentPoolValue();
+        int pendingBefore = state.pendingContributions;
+        boolean dirtyBefore = state.dirty;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        BigDecimal change = state.jackpot.getCurrentPoolValue().subtract(valueBefore);
+                        state.unflushed = state.unflushed.add(change);
+                        if (state.flushOnCommit || state.pendingContributions >= flushBatchSize) {
+                            flushLocked(jackpotId, state);
+                        }
+                    } else {
+                        state.jackpot.setCurrentPoolValue(valueBefore);
+                        state.pendingContributions = pendingBefore;
+                        state.dirty = dirtyBefore;
+                        state.flushOnCommit = false;
+                    }
+                } finally {
+                    state.lock.unlock();
+                }
+            }
+        });
+
+        return state.jackpot;
+    }
+
+    public void assignPartition(UUID jackpotId, int partition) {
+        ownerPartitions.put(jackpotId, partition);
+    }
+
+    public void releasePartitions(Collection<Integer> partitions) {
+        if (!enabled || partitions.isEmpty()) {
+            return;
+        }
+
+        List<UUID> released = ownerPartitions.entrySet().stream()
+                .filter(e -> partitions.contains(e.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        for (UUID jackpotId : released) {
+            PoolState state = pools.get(jackpotId);
+            if (state != null) {
+                release(jackpotId, state);
+            }
+            ownerPartitions.remove(jackpotId);
+        }
+
+        log.info("Released {} jackpot pools for revoked partitions {}", released.size(), partitions);
+    }
+
+    public void markUpdated(UUID jackpotId, int contributions) {
+        PoolState state = heldState(jackpotId);
+        state.pendingContributions += contributions;
+        state.dirty = true;
+    }
+
+    public void markReset(UUID jackpotId) {
+        PoolState state = heldState(jackpotId);
+        state.dirty = true;
+        state.flushOnCommit = true;
+    }
+
+    private PoolState lockState(UUID jackpotId) {
+        while (true) {
+            PoolState state = pools.computeIfAbsent(jackpotId, this::load);
+            state.lock.lock();
+            if (!state.evicted) {
+                state.released = false;
+                return state;
+            }
+            state.lock.unlock();
+        }
+    }
+
+    private void release(UUID jackpotId, PoolState state) {
+        state.lock.lock();
+        try {
+            state.released = true;
+            flush(jackpotId, state);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    private void evict(UUID jackpotId, PoolState state) {
+        state.lock.lock();
+        try {
+            state.evicted = true;
+            pools.remove(jackpotId, state);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    private PoolState heldState(UUID jackpotId) {
+        PoolState state = pools.get(jackpotId);
+        if (state == null || !state.lock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("Jackpot pool " + jackpotId + " is not held by the current thread");
+        }
+        return state;
+    }
+
+    @Scheduled(fixedDelayString = "${jackpot.pool.accumulator.flush-interval-ms:1000}")
+    public void flushAll() {
+        if (!enabled) {
+            return;
+        }
+        pools.forEach(this::flush);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+    }
+
+    private void flush(UUID jackpotId, PoolState state) {
+        state.lock.lock();
+        try {
+            flushLocked(jackpotId, state);
+            if (state.released) {
+                evict(jackpotId, state);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to flush pool of jackpot {}: {}", jackpotId, e.getMessage(), e);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    private void flushLocked(UUID jackpotId, PoolState state) {
+        for (int attempt = 1; state.dirty; attempt++) {
+            BigDecimal poolValue = state.jackpot.getCurrentPoolValue();
+            Long version = state.jackpot.getVersion();
+            Integer updated = flushTemplate.execute(tx ->
+                    jackpotRepository.updatePoolValue(jackpotId, poolValue, version, Instant.now()));
+
+            if (updated != null && updated > 0) {
+                state.jackpot.setVersion(version + 1);
+                log.debug("Flushed pool of jackpot {} at {} after {} contributions",
+                        jackpotId, poolValue, state.pendingContributions);
+                state.pendingContributions = 0;
+                state.unflushed = BigDecimal.ZERO;
+                state.dirty = false;
+                state.flushOnCommit = false;
+                return;
+            }
+
+            if (attempt == MAX_FLUSH_ATTEMPTS) {
+                throw new IllegalStateException("Jackpot " + jackpotId + " kept changing outside this pool owner after "
+                        + attempt + " flush attempts");
+            }
+            reload(jackpotId, state);
+        }
+    }
+
+    // The state lock is held, so every change of this owner is committed and in the ledger. A reward evaluated
+    // outside the owner only bumps the version, so the pool is rebuilt from the ledger like on load.
+    private void reload(UUID jackpotId, PoolState state) {
+        Jackpot stored = flushTemplate.execute(tx -> jackpotRepository.findById(jackpotId))
+                .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+        BigDecimal poolValue = flushTemplate.execute(tx -> committedPoolValue(stored));
+
+        log.warn("Jackpot {} was modified outside this pool owner (expected version {}, found {}), "
+                + "rebuilt its pool from the ledger as {} instead of {}", jackpotId, state.jackpot.getVersion(),
+                stored.getVersion(), poolValue, state.jackpot.getCurrentPoolValue());
+
+        state.jackpot.setCurrentPoolValue(poolValue);
+        state.jackpot.setVersion(stored.getVersion());
+        state.jackpot.setUpdatedAt(stored.getUpdatedAt());
+        state.unflushed = poolValue.subtract(stored.getCurrentPoolValue());
+    }
+
+    private PoolState load(UUID jackpotId) {
+        Jackpot jackpot = jackpotRepository.findById(jackpotId)
+                .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+        BigDecimal poolValue = committedPoolValue(jackpot);
+
+        PoolState state = new PoolState(snapshot(jackpot, poolValue));
+        state.unflushed = poolValue.subtract(jackpot.getCurrentPoolValue());
+        state.dirty = state.unflushed.signum() != 0;
+        return state;
+    }
+
+    // Ledger rows written after the last flush are committed but not yet in the jackpot row. Summing them does not
+    // depend on their order, and every win since then moved the pool by initialPoolValue - rewardAmount.
+    public BigDecimal committedPoolValue(Jackpot jackpot) {
+        UUID jackpotId = jackpot.getId();
+        Instant since = jackpot.getUpdatedAt();
+        long wins = rewardRepository.countByJackpotIdAndCreatedAtAfter(jackpotId, since);
+        return jackpot.getCurrentPoolValue()
+                .add(contributionRepository.sumContributionAmountSince(jackpotId, since))
+                .subtract(rewardRepository.sumRewardAmountSince(jackpotId, since))
+                .add(jackpot.getInitialPoolValue().multiply(BigDecimal.valueOf(wins)));
+    }
+
+    static Jackpot snapshot(Jackpot jackpot, BigDecimal poolValue) {
+        return Jackpot.builder()
+                .id(jackpot.getId())
+                .name(jackpot.getName())
+                .initialPoolValue(jackpot.getInitialPoolValue())
+                .currentPoolValue(poolValue)
+                .contributionType(jackpot.getContributionType())
+                .contributionPercentage(jackpot.getContributionPercentage())
+                .rewardType(jackpot.getRewardType())
+                .rewardChancePercentage(jackpot.getRewardChancePercentage())
+                .maxPoolLimit(jackpot.getMaxPoolLimit())
+                .randomSource(jackpot.getRandomSource())
+                .createdAt(jackpot.getCreatedAt())
+                .updatedAt(jackpot.getUpdatedAt())
+                .version(jackpot.getVersion())
+                .build();
+    }
+
+    private static final class PoolState {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Jackpot jackpot;
+        private int pendingContributions;
+        private BigDecimal unflushed = BigDecimal.ZERO;
+        private boolean dirty;
+        private boolean flushOnCommit;
+        private boolean released;
+        private boolean evicted;
+
+        private PoolState(Jackpot jackpot) {
+            this.jackpot = jackpot;
+        }
+    }
+}
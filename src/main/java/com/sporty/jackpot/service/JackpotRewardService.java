@@ -1,22 +1,28 @@
 package com.sporty.jackpot.service;
 
 import com.sporty.jackpot.entity.Jackpot;
-import com.sporty.jackpot.entity.JackpotContribution;
 import com.sporty.jackpot.entity.JackpotReward;
 import com.sporty.jackpot.exception.ContributionNotFoundException;
+import com.sporty.jackpot.exception.DuplicateRewardException;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
 import com.sporty.jackpot.repository.JackpotContributionRepository;
 import com.sporty.jackpot.repository.JackpotRepository;
 import com.sporty.jackpot.repository.JackpotRewardRepository;
 import com.sporty.jackpot.strategy.reward.RewardStrategy;
 import com.sporty.jackpot.strategy.reward.RewardStrategyFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.Instant;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,26 +31,49 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class JackpotRewardService {
 
+    static final String EVALUATE_TIMER = "jackpot.rewards.evaluate";
+
     private final JackpotRepository jackpotRepository;
     private final JackpotContributionRepository contributionRepository;
     private final JackpotRewardRepository rewardRepository;
     private final RewardStrategyFactory strategyFactory;
+    private final JackpotConfigCache configCache;
+    private final JackpotPoolAccumulator poolAccumulator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jackpot.reward.fused.enabled:false}")
+    private boolean fusedRewardEnabled;
 
     @Transactional
     public Optional<JackpotReward> evaluateReward(UUID betId, UUID userId, UUID jackpotId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Optional<JackpotReward> reward = evaluate(betId, userId, jackpotId);
+            outcome = reward.isPresent() ? "won" : "lost";
+            return reward;
+        } finally {
+            sample.stop(meterRegistry.timer(EVALUATE_TIMER, "outcome", outcome));
+        }
+    }
+
+    private Optional<JackpotReward> evaluate(UUID betId, UUID userId, UUID jackpotId) {
         Optional<JackpotReward> existingReward = rewardRepository.findByBetId(betId);
         if (existingReward.isPresent()) {
             log.debug("Reward already evaluated for bet {}", betId);
             return existingReward;
         }
 
-        List<JackpotContribution> contributions = contributionRepository.findByBetId(betId);
-        if (contributions.isEmpty()) {
+        if (!contributionRepository.existsByBetId(betId)) {
             throw new ContributionNotFoundException(betId);
         }
 
-        Jackpot jackpot = jackpotRepository.findByIdWithLock(jackpotId)
-                .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+        if (fusedRewardEnabled) {
+            log.debug("Bet {} was drawn with its contribution to jackpot {} and did not win", betId, jackpotId);
+            return Optional.empty();
+        }
+
+        Jackpot jackpot = acquireJackpot(jackpotId);
 
         RewardStrategy strategy = strategyFactory.getStrategy(jackpot.getRewardType());
 
@@ -64,13 +93,67 @@ public class JackpotRewardService {
                 .rewardAmount(rewardAmount)
                 .build();
 
-        jackpot.setCurrentPoolValue(jackpot.getInitialPoolValue());
-        jackpotRepository.save(jackpot);
+        JackpotReward savedReward = saveReward(reward);
 
-        JackpotReward savedReward = rewardRepository.save(reward);
+        // Saved before the reset so the reward is older than the jackpot's updatedAt when the pool is rebuilt
+        jackpot.setCurrentPoolValue(jackpot.getInitialPoolValue());
+        if (poolAccumulator.isEnabled()) {
+            // The pool and its unflushed contributions belong to the owner of the jackpot's partition, which may run
+            // on another instance. Only the version is bumped: the owner's next flush fails the fence and rebuilds
+            // the pool from the ledger, where this reward now offsets its payout. updatedAt stays put, so a restarted
+            // owner still counts every contribution since the last flush.
+            jackpotRepository.incrementVersion(jackpotId);
+        } else if (configCache.isEnabled()) {
+            jackpotRepository.setPoolValue(jackpotId, jackpot.getCurrentPoolValue(), Instant.now());
+        } else {
+            jackpotRepository.save(jackpot);
+        }
 
         log.info("Bet {} won jackpot {}! Reward: {}", betId, jackpotId, rewardAmount);
 
         return Optional.of(savedReward);
     }
+
+    // Flushed so a concurrent evaluation of the same bet surfaces here, where it can be told apart from other
+    // integrity violations, instead of at commit
+    private JackpotReward saveReward(JackpotReward reward) {
+        try {
+            return rewardRepository.saveAndFlush(reward);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateBet(e)) {
+                throw new DuplicateRewardException(reward.getBetId(), e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDuplicateBet(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(JackpotReward.BET_ID_CONSTRAINT);
+    }
+
+    private Jackpot acquireJackpot(UUID jackpotId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Jackpot jackpot = lockJackpot(jackpotId);
+        sample.stop(meterRegistry.timer(JackpotContributionService.LOCK_WAIT_TIMER, "operation", "reward"));
+        return jackpot;
+    }
+
+    // Always locks the jackpot row, which serialises rewards of the jackpot. In accumulator mode the row lags the
+    // in-memory pool, so the pool is read as its owner would load it: the row plus the ledger since its last flush.
+    private Jackpot lockJackpot(UUID jackpotId) {
+        if (poolAccumulator.isEnabled()) {
+            Jackpot stored = jackpotRepository.findByIdWithLock(jackpotId)
+                    .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+            return JackpotPoolAccumulator.snapshot(stored, poolAccumulator.committedPoolValue(stored));
+        }
+        if (configCache.isEnabled()) {
+            BigDecimal poolValue = jackpotRepository.findPoolValueForUpdate(jackpotId)
+                    .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+            return configCache.get(jackpotId).toJackpot(poolValue);
+        }
+        return jackpotRepository.findByIdWithLock(jackpotId)
+                .orElseThrow(() -> new JackpotNotFoundException(jackpotId));
+    }
 }
@@ -1,26 +1,35 @@
 package com.sporty.jackpot.service;
 
 import com.sporty.jackpot.dto.JackpotDto;
+import com.sporty.jackpot.dto.JackpotPage;
 import com.sporty.jackpot.dto.JackpotRequest;
+import com.sporty.jackpot.dto.PageCursor;
 import com.sporty.jackpot.entity.Jackpot;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
 import com.sporty.jackpot.mapper.JackpotMapper;
 import com.sporty.jackpot.repository.JackpotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JackpotService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    static final int STREAM_PAGE_SIZE = 500;
+
     private final JackpotRepository jackpotRepository;
     private final JackpotMapper jackpotMapper;
+    private final JackpotConfigCache configCache;
 
     @Transactional
     public JackpotDto createJackpot(JackpotRequest request) {
@@ -33,9 +42,11 @@ public class JackpotService {
                 .rewardType(request.getRewardType())
                 .rewardChancePercentage(request.getRewardChancePercentage())
                 .maxPoolLimit(request.getMaxPoolLimit())
+                .randomSource(request.getRandomSource())
                 .build();
 
         Jackpot saved = jackpotRepository.save(jackpot);
+        configCache.put(JackpotConfig.of(saved));
         log.info("Created jackpot {} with name '{}'", saved.getId(), saved.getName());
 
         return jackpotMapper.toDto(saved);
@@ -43,10 +54,8 @@ public class JackpotService {
 
     @Transactional(readOnly = true)
     public JackpotDto getJackpot(UUID id) {
-        Jackpot jackpot = jackpotRepository.findById(id)
+        return jackpotRepository.findDtoById(id)
                 .orElseThrow(() -> new JackpotNotFoundException(id));
-
-        return jackpotMapper.toDto(jackpot);
     }
 
     @Transactional(readOnly = true)
@@ -55,4 +64,43 @@ public class JackpotService {
                 .map(jackpotMapper::toDto)
                 .toList();
     }
+
+    @Transactional(readOnly = true)
+    public JackpotPage getJackpots(String cursor, int pageSize) {
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        PageCursor after = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+        List<Jackpot> jackpots = findPage(after, size + 1);
+
+        List<JackpotDto> page = jackpots.stream()
+                .limit(size)
+                .map(jackpotMapper::toDto)
+                .toList();
+        String nextCursor = jackpots.size() > size
+                ? new PageCursor(page.getLast().getCreatedAt(), page.getLast().getId()).encode()
+                : null;
+
+        return new JackpotPage(page, nextCursor);
+    }
+
+    // Not transactional: each page is read in its own short repository transaction, so a slow client
+    // holds no connection between pages
+    public void streamJackpots(Consumer<JackpotDto> sink) {
+        PageCursor after = null;
+        List<Jackpot> jackpots;
+        do {
+            jackpots = findPage(after, STREAM_PAGE_SIZE);
+            for (Jackpot jackpot : jackpots) {
+                sink.accept(jackpotMapper.toDto(jackpot));
+            }
+            if (!jackpots.isEmpty()) {
+                after = new PageCursor(jackpots.getLast().getCreatedAt(), jackpots.getLast().getId());
+            }
+        } while (jackpots.size() == STREAM_PAGE_SIZE);
+    }
+
+    private List<Jackpot> findPage(PageCursor after, int limit) {
+        return after == null
+                ? jackpotRepository.findAllByOrderByCreatedAtAscIdAsc(Limit.of(limit))
+                : jackpotRepository.findPageAfter(after.createdAt(), after.id(), Limit.of(limit));
+    }
 }
@@ -0,0 +1,68 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.dto.ContributionHistoryDto;
+import com.sporty.jackpot.dto.HistoryPage;
+import com.sporty.jackpot.dto.PageCursor;
+import com.sporty.jackpot.dto.RewardHistoryDto;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotRewardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class UserHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotRewardRepository rewardRepository;
+
+    @Transactional(readOnly = true)
+    public HistoryPage<ContributionHistoryDto> getContributions(UUID userId, String cursor, int pageSize) {
+        return page(cursor, pageSize,
+                limit -> contributionRepository.findHistoryByUserId(userId, limit),
+                (before, limit) -> contributionRepository.findHistoryByUserIdBefore(
+                        userId, before.createdAt(), before.id(), limit),
+                last -> new PageCursor(last.createdAt(), last.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public HistoryPage<RewardHistoryDto> getRewards(UUID userId, String cursor, int pageSize) {
+        return page(cursor, pageSize,
+                limit -> rewardRepository.findHistoryByUserId(userId, limit),
+                (before, limit) -> rewardRepository.findHistoryByUserIdBefore(
+                        userId, before.createdAt(), before.id(), limit),
+                last -> new PageCursor(last.createdAt(), last.id()));
+    }
+
+    private static <T> HistoryPage<T> page(String cursor, int pageSize,
+                                           Function<Limit, List<T>> first,
+                                           PageQuery<T> next,
+                                           Function<T, PageCursor> cursorOf) {
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(size + 1);
+
+        List<T> items = cursor == null || cursor.isBlank()
+                ? first.apply(limit)
+                : next.find(PageCursor.decode(cursor), limit);
+
+        if (items.size() <= size) {
+            return new HistoryPage<>(items, null);
+        }
+        List<T> page = items.subList(0, size);
+        return new HistoryPage<>(List.copyOf(page), cursorOf.apply(page.getLast()).encode());
+    }
+
+    @FunctionalInterface
+    private interface PageQuery<T> {
+        List<T> find(PageCursor before, Limit limit);
+    }
+}
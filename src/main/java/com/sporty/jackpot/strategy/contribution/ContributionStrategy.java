@@ -7,5 +7,7 @@ import java.math.BigDecimal;
 
 public interface ContributionStrategy {
     BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot);
+    long calculateScaledContribution(long betAmount, long contributionPercentage,
+                                     long currentPoolValue, long maxPoolLimit);
     ContributionType getType();
 }
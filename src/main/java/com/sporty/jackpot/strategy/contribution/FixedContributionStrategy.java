@@ -16,6 +16,12 @@ public class FixedContributionStrategy implements ContributionStrategy {
                 .setScale(4, RoundingMode.HALF_UP);
     }
 
+    @Override
+    public long calculateScaledContribution(long betAmount, long contributionPercentage,
+                                            long currentPoolValue, long maxPoolLimit) {
+        return ScaledMoney.divideHalfUp(Math.multiplyExact(betAmount, contributionPercentage), ScaledMoney.ONE);
+    }
+
     @Override
     public ContributionType getType() {
         return ContributionType.FIXED;
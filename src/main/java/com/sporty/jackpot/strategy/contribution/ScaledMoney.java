@@ -0,0 +1,34 @@
+package com.sporty.jackpot.strategy.contribution;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class ScaledMoney {
+
+    public static final int SCALE = 4;
+    public static final long ONE = 10_000L;
+
+    private ScaledMoney() {
+    }
+
+    public static long toScaled(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static long toScaledOrZero(BigDecimal value) {
+        return value == null ? 0L : toScaled(value);
+    }
+
+    public static BigDecimal toBigDecimal(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= Math.abs(divisor) - remainder) {
+            quotient += Long.signum(dividend) * Long.signum(divisor);
+        }
+        return quotient;
+    }
+}
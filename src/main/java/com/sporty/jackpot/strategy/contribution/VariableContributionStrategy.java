@@ -11,6 +11,7 @@ import java.math.RoundingMode;
 public class VariableContributionStrategy implements ContributionStrategy {
 
     private static final BigDecimal MINIMUM_MULTIPLIER = new BigDecimal("0.1");
+    private static final long SCALED_MINIMUM_MULTIPLIER = 1_000L;
 
     @Override
     public BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot) {
@@ -34,6 +35,22 @@ public class VariableContributionStrategy implements ContributionStrategy {
                 .setScale(4, RoundingMode.HALF_UP);
     }
 
+    @Override
+    public long calculateScaledContribution(long betAmount, long contributionPercentage,
+                                            long currentPoolValue, long maxPoolLimit) {
+        long baseContribution = Math.multiplyExact(betAmount, contributionPercentage);
+
+        if (maxPoolLimit <= 0) {
+            return ScaledMoney.divideHalfUp(baseContribution, ScaledMoney.ONE);
+        }
+
+        long poolRatio = ScaledMoney.divideHalfUp(Math.multiplyExact(currentPoolValue, ScaledMoney.ONE), maxPoolLimit);
+        long multiplier = Math.max(ScaledMoney.ONE - poolRatio, SCALED_MINIMUM_MULTIPLIER);
+
+        return ScaledMoney.divideHalfUp(Math.multiplyExact(baseContribution, multiplier),
+                ScaledMoney.ONE * ScaledMoney.ONE);
+    }
+
     @Override
     public ContributionType getType() {
         return ContributionType.VARIABLE;
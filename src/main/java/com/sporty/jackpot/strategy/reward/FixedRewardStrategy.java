@@ -2,21 +2,22 @@ package com.sporty.jackpot.strategy.reward;
 
 import com.sporty.jackpot.entity.Jackpot;
 import com.sporty.jackpot.entity.RewardType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.security.SecureRandom;
 
 @Component
+@RequiredArgsConstructor
 public class FixedRewardStrategy implements RewardStrategy {
 
-    private final SecureRandom random = new SecureRandom();
+    private final RandomSourceFactory randomSources;
 
     @Override
     public boolean evaluateWin(Jackpot jackpot) {
         BigDecimal chancePercentage = jackpot.getRewardChancePercentage();
         double threshold = chancePercentage.doubleValue();
-        double roll = random.nextDouble();
+        double roll = randomSources.getSource(jackpot.getRandomSource()).nextDouble();
         return roll < threshold;
     }
 
@@ -0,0 +1,8 @@
+package com.sporty.jackpot.strategy.reward;
+
+import com.sporty.jackpot.entity.RandomSourceType;
+
+public interface RandomSource {
+    double nextDouble();
+    RandomSourceType getType();
+}
@@ -0,0 +1,33 @@
+package com.sporty.jackpot.strategy.reward;
+
+import com.sporty.jackpot.entity.RandomSourceType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class RandomSourceFactory {
+
+    private final Map<RandomSourceType, RandomSource> sources;
+    private final RandomSourceType defaultType;
+
+    public RandomSourceFactory(List<RandomSource> sourceList,
+                               @Value("${jackpot.reward.random-source:SECURE}") RandomSourceType defaultType) {
+        this.sources = sourceList.stream()
+                .collect(Collectors.toMap(RandomSource::getType, Function.identity()));
+        this.defaultType = defaultType;
+    }
+
+    public RandomSource getSource(RandomSourceType type) {
+        RandomSourceType resolved = type == null ? defaultType : type;
+        return switch (sources.get(resolved)) {
+            case RandomSource s -> s;
+            case null -> throw new IllegalArgumentException(
+                    "No random source found for type: " + resolved);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.sporty.jackpot.strategy.reward;
+
+import com.sporty.jackpot.entity.RandomSourceType;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+@Component
+public class SecureRandomSource implements RandomSource {
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public RandomSourceType getType() {
+        return RandomSourceType.SECURE;
+    }
+}
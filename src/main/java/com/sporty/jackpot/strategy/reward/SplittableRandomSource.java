@@ -0,0 +1,51 @@
+package com.sporty.jackpot.strategy.reward;
+
+import com.sporty.jackpot.entity.RandomSourceType;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+@Component
+public class SplittableRandomSource implements RandomSource {
+
+    static final String ALGORITHM = "L64X128MixRandom";
+    private static final int STREAMS_PER_CPU = 4;
+
+    // Split once up front: virtual threads are created per task, so a per-thread stream would be split on every draw
+    private final RandomGenerator[] streams;
+    private final int mask;
+
+    public SplittableRandomSource() {
+        this(new SecureRandom().nextLong());
+    }
+
+    SplittableRandomSource(long seed) {
+        int count = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * STREAMS_PER_CPU * 2 - 1);
+        SplittableGenerator root = RandomGeneratorFactory.<SplittableGenerator>of(ALGORITHM).create(seed);
+        this.streams = new RandomGenerator[count];
+        for (int i = 0; i < count; i++) {
+            streams[i] = root.split();
+        }
+        this.mask = count - 1;
+    }
+
+    @Override
+    public double nextDouble() {
+        return nextDouble(Thread.currentThread().threadId());
+    }
+
+    double nextDouble(long threadId) {
+        RandomGenerator stream = streams[(int) (threadId & mask)];
+        synchronized (stream) {
+            return stream.nextDouble();
+        }
+    }
+
+    @Override
+    public RandomSourceType getType() {
+        return RandomSourceType.SPLITTABLE;
+    }
+}
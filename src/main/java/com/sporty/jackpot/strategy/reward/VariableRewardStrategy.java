@@ -2,16 +2,17 @@ package com.sporty.jackpot.strategy.reward;
 
 import com.sporty.jackpot.entity.Jackpot;
 import com.sporty.jackpot.entity.RewardType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.security.SecureRandom;
 
 @Component
+@RequiredArgsConstructor
 public class VariableRewardStrategy implements RewardStrategy {
 
-    private final SecureRandom random = new SecureRandom();
+    private final RandomSourceFactory randomSources;
 
     @Override
     public boolean evaluateWin(Jackpot jackpot) {
@@ -20,7 +21,7 @@ public class VariableRewardStrategy implements RewardStrategy {
         BigDecimal maxPool = jackpot.getMaxPoolLimit();
 
         if (maxPool == null || maxPool.compareTo(BigDecimal.ZERO) <= 0) {
-            double roll = random.nextDouble();
+            double roll = randomSources.getSource(jackpot.getRandomSource()).nextDouble();
             return roll < baseChance.doubleValue();
         }
 
@@ -34,7 +35,7 @@ public class VariableRewardStrategy implements RewardStrategy {
         BigDecimal totalChance = baseChance.add(additionalChance);
 
         double threshold = totalChance.doubleValue();
-        double roll = random.nextDouble();
+        double roll = randomSources.getSource(jackpot.getRandomSource()).nextDouble();
         return roll < threshold;
     }
 
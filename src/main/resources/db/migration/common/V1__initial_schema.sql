@@ -0,0 +1,66 @@
+CREATE TABLE jackpots (
+    id                       UUID                        NOT NULL PRIMARY KEY,
+    name                     VARCHAR(255)                NOT NULL,
+    initial_pool_value       NUMERIC(19, 4)              NOT NULL,
+    current_pool_value       NUMERIC(19, 4)              NOT NULL,
+    contribution_type        VARCHAR(255)                NOT NULL,
+    contribution_percentage  NUMERIC(5, 4)               NOT NULL,
+    reward_type              VARCHAR(255)                NOT NULL,
+    reward_chance_percentage NUMERIC(5, 4)               NOT NULL,
+    max_pool_limit           NUMERIC(19, 4),
+    random_source            VARCHAR(255),
+    created_at               TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at               TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version                  BIGINT
+);
+
+CREATE INDEX idx_jackpots_created_at_id ON jackpots (created_at, id);
+
+CREATE TABLE bets (
+    id          UUID                        NOT NULL PRIMARY KEY,
+    user_id     UUID                        NOT NULL,
+    jackpot_id  UUID                        NOT NULL,
+    bet_amount  NUMERIC(19, 4)              NOT NULL,
+    status      VARCHAR(255)                NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE bet_outbox (
+    id          UUID                        NOT NULL PRIMARY KEY,
+    bet_id      UUID                        NOT NULL,
+    user_id     UUID                        NOT NULL,
+    jackpot_id  UUID                        NOT NULL,
+    bet_amount  NUMERIC(19, 4)              NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_bet_outbox_created_at ON bet_outbox (created_at);
+
+CREATE TABLE jackpot_contributions (
+    id                     UUID                        NOT NULL PRIMARY KEY,
+    bet_id                 UUID                        NOT NULL,
+    user_id                UUID                        NOT NULL,
+    jackpot_id             UUID                        NOT NULL,
+    stake_amount           NUMERIC(19, 4)              NOT NULL,
+    contribution_amount    NUMERIC(19, 4)              NOT NULL,
+    current_jackpot_amount NUMERIC(19, 4)              NOT NULL,
+    created_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_jackpot_contributions_bet_id ON jackpot_contributions (bet_id);
+CREATE INDEX idx_jackpot_contributions_user_id ON jackpot_contributions (user_id);
+CREATE INDEX idx_jackpot_contributions_jackpot_id_created_at ON jackpot_contributions (jackpot_id, created_at);
+
+CREATE TABLE jackpot_rewards (
+    id            UUID                        NOT NULL PRIMARY KEY,
+    bet_id        UUID                        NOT NULL,
+    user_id       UUID                        NOT NULL,
+    jackpot_id    UUID                        NOT NULL,
+    reward_amount NUMERIC(19, 4)              NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_jackpot_rewards_bet_id UNIQUE (bet_id)
+);
+
+CREATE INDEX idx_jackpot_rewards_user_id ON jackpot_rewards (user_id);
+CREATE INDEX idx_jackpot_rewards_jackpot_id ON jackpot_rewards (jackpot_id);
@@ -0,0 +1,13 @@
+CREATE INDEX idx_jackpot_contributions_created_at ON jackpot_contributions (created_at);
+
+CREATE TABLE jackpot_contribution_rollups (
+    id                  UUID                        NOT NULL PRIMARY KEY,
+    jackpot_id          UUID                        NOT NULL,
+    contribution_date   DATE                        NOT NULL,
+    contribution_count  BIGINT                      NOT NULL,
+    stake_amount        NUMERIC(19, 4)              NOT NULL,
+    contribution_amount NUMERIC(19, 4)              NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_jackpot_contribution_rollups_jackpot_id_date UNIQUE (jackpot_id, contribution_date)
+);
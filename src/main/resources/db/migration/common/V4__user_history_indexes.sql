@@ -0,0 +1,5 @@
+DROP INDEX idx_jackpot_contributions_user_id;
+CREATE INDEX idx_jackpot_contributions_user_id_created_at ON jackpot_contributions (user_id, created_at);
+
+DROP INDEX idx_jackpot_rewards_user_id;
+CREATE INDEX idx_jackpot_rewards_user_id_created_at ON jackpot_rewards (user_id, created_at);
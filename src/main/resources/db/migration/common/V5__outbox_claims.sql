@@ -0,0 +1 @@
+ALTER TABLE bet_outbox ADD COLUMN claimed_until TIMESTAMP(6) WITH TIME ZONE;
@@ -0,0 +1,6 @@
+CREATE TABLE contributed_bets (
+    bet_id     UUID                        NOT NULL PRIMARY KEY,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_contributed_bets_created_at ON contributed_bets (created_at);
@@ -0,0 +1,39 @@
+ALTER TABLE jackpot_contributions RENAME TO jackpot_contributions_legacy;
+
+CREATE TABLE jackpot_contributions (
+    id                     UUID                        NOT NULL,
+    bet_id                 UUID                        NOT NULL,
+    user_id                UUID                        NOT NULL,
+    jackpot_id             UUID                        NOT NULL,
+    stake_amount           NUMERIC(19, 4)              NOT NULL,
+    contribution_amount    NUMERIC(19, 4)              NOT NULL,
+    current_jackpot_amount NUMERIC(19, 4)              NOT NULL,
+    created_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE jackpot_contributions_default PARTITION OF jackpot_contributions DEFAULT;
+
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR day IN SELECT generate_series((now() AT TIME ZONE 'UTC')::date,
+                                      (now() AT TIME ZONE 'UTC')::date + 7, INTERVAL '1 day')::date
+    LOOP
+        EXECUTE format('CREATE TABLE jackpot_contributions_p%s PARTITION OF jackpot_contributions '
+                       'FOR VALUES FROM (%L) TO (%L)',
+                       to_char(day, 'YYYYMMDD'),
+                       day::timestamp AT TIME ZONE 'UTC',
+                       (day + 1)::timestamp AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+INSERT INTO jackpot_contributions SELECT * FROM jackpot_contributions_legacy;
+
+DROP TABLE jackpot_contributions_legacy;
+
+CREATE INDEX idx_jackpot_contributions_bet_id ON jackpot_contributions (bet_id);
+CREATE INDEX idx_jackpot_contributions_user_id ON jackpot_contributions (user_id);
+CREATE INDEX idx_jackpot_contributions_jackpot_id_created_at ON jackpot_contributions (jackpot_id, created_at);
+CREATE INDEX idx_jackpot_contributions_created_at ON jackpot_contributions (created_at);
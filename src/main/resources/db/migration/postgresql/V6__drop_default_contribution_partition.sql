@@ -0,0 +1,19 @@
+ALTER TABLE jackpot_contributions DETACH PARTITION jackpot_contributions_default;
+
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR day IN SELECT DISTINCT (created_at AT TIME ZONE 'UTC')::date FROM jackpot_contributions_default
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS jackpot_contributions_p%s PARTITION OF jackpot_contributions '
+                       'FOR VALUES FROM (%L) TO (%L)',
+                       to_char(day, 'YYYYMMDD'),
+                       day::timestamp AT TIME ZONE 'UTC',
+                       (day + 1)::timestamp AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+INSERT INTO jackpot_contributions SELECT * FROM jackpot_contributions_default;
+
+DROP TABLE jackpot_contributions_default;
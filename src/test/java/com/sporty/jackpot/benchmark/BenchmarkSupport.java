@@ -0,0 +1,86 @@
+package com.sporty.jackpot.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Collection;
+
+@Slf4j
+final class BenchmarkSupport {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private BenchmarkSupport() {
+    }
+
+    // Full application context on the H2 test profile, with the embedded broker the Kafka beans connect to
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @SpringBootTest
+    @EmbeddedKafka(partitions = 1, topics = {"jackpot-bets"})
+    @ActiveProfiles("test")
+    @TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+    })
+    @Tag("benchmark")
+    @interface SpringBenchmark {
+    }
+
+    @FunctionalInterface
+    interface Workload {
+        void run() throws Exception;
+    }
+
+    static long elapsedNanos(Workload workload) throws Exception {
+        long start = System.nanoTime();
+        workload.run();
+        return System.nanoTime() - start;
+    }
+
+    static void reportThroughput(String benchmark, long operations, String unit, long elapsedNanos, String details) {
+        report(benchmark, String.format("%,.0f %s/sec (%,d %s in %,d ms, %s)",
+                operations * NANOS_PER_SECOND / elapsedNanos, unit, operations, unit, elapsedNanos / 1_000_000,
+                details));
+    }
+
+    static void reportLatency(String benchmark, long operations, long elapsedNanos, String details) {
+        report(benchmark, String.format("%,.1f us/op (%,d ops, %s)",
+                elapsedNanos / 1_000.0 / operations, operations, details));
+    }
+
+    static void report(String benchmark, String result) {
+        log.info("{}: {}", benchmark, result);
+    }
+
+    static Collection<RunResult> runJmh(String resultName, Class<?>... benchmarks) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .result("target/jmh-" + resultName + ".json")
+                .resultFormat(ResultFormatType.JSON);
+        for (Class<?> benchmark : benchmarks) {
+            options.include(benchmark.getSimpleName());
+        }
+        return new Runner(options.build()).run();
+    }
+}
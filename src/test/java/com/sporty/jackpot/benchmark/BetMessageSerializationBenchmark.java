@@ -0,0 +1,74 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.kafka.BetMessageDeserializer;
+import com.sporty.jackpot.kafka.BetMessageSerializer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BetMessageSerializationBenchmark {
+
+    static final String TOPIC = "jackpot-bets";
+
+    @Param({"JSON", "BINARY"})
+    public BetMessageSerializer.Format format;
+
+    private BetMessageSerializer serializer;
+    private BetMessageDeserializer deserializer;
+    private BetMessage bet;
+    private byte[] data;
+    private Headers headers;
+
+    @Setup
+    public void setUp() {
+        serializer = new BetMessageSerializer(format);
+        deserializer = new BetMessageDeserializer();
+        deserializer.configure(Map.of("spring.json.trusted.packages", "com.sporty.jackpot.*"), false);
+        bet = sampleBet();
+        headers = new RecordHeaders();
+        data = serializer.serialize(TOPIC, headers, bet);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), bet);
+    }
+
+    @Benchmark
+    public BetMessage deserialize() {
+        return deserializer.deserialize(TOPIC, headers, data);
+    }
+
+    static BetMessage sampleBet() {
+        return BetMessage.builder()
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(UUID.randomUUID())
+                .betAmount(new BigDecimal("125.50"))
+                .createdAtMillis(System.currentTimeMillis())
+                .build();
+    }
+}
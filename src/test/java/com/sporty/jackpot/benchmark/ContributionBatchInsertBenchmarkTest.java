@@ -0,0 +1,83 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.benchmark.BenchmarkSupport.SpringBenchmark;
+import com.sporty.jackpot.entity.JackpotContribution;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.elapsedNanos;
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.reportThroughput;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBenchmark
+class ContributionBatchInsertBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int MEASURED_ROWS = 20_000;
+    // One consumer poll (max.poll.records) per transaction, whatever the JDBC batch size
+    private static final int TRANSACTION_ROWS = 500;
+
+    @Autowired
+    private JackpotContributionRepository contributionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "batch size {0}")
+    @ValueSource(ints = {1, 100, 500})
+    void insertContributions(int batchSize) throws Exception {
+        contributionRepository.deleteAllInBatch();
+        insert(WARMUP_ROWS, batchSize);
+        contributionRepository.deleteAllInBatch();
+
+        long elapsedNanos = elapsedNanos(() -> insert(MEASURED_ROWS, batchSize));
+
+        reportThroughput("jackpot_contributions insert, batch size " + batchSize, MEASURED_ROWS, "rows",
+                elapsedNanos, TRANSACTION_ROWS + " rows per transaction");
+
+        assertThat(contributionRepository.count()).isEqualTo(MEASURED_ROWS);
+    }
+
+    private void insert(int rows, int batchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        UUID jackpotId = UUID.randomUUID();
+
+        for (int offset = 0; offset < rows; offset += TRANSACTION_ROWS) {
+            int size = Math.min(TRANSACTION_ROWS, rows - offset);
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                contributionRepository.saveAll(contributions(jackpotId, size));
+            });
+        }
+    }
+
+    private static List<JackpotContribution> contributions(UUID jackpotId, int count) {
+        List<JackpotContribution> contributions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contributions.add(JackpotContribution.builder()
+                    .betId(UUID.randomUUID())
+                    .userId(UUID.randomUUID())
+                    .jackpotId(jackpotId)
+                    .stakeAmount(BigDecimal.valueOf(100))
+                    .contributionAmount(new BigDecimal("5.0000"))
+                    .currentJackpotAmount(BigDecimal.valueOf(1005))
+                    .build());
+        }
+        return contributions;
+    }
+}
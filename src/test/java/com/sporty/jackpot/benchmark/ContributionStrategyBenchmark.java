@@ -0,0 +1,71 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.strategy.contribution.FixedContributionStrategy;
+import com.sporty.jackpot.strategy.contribution.ScaledMoney;
+import com.sporty.jackpot.strategy.contribution.VariableContributionStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContributionStrategyBenchmark {
+
+    @Param({"NO_LIMIT", "EMPTY", "HALF_FULL", "NEAR_LIMIT"})
+    public PoolFill poolFill;
+
+    @Param({"1.00", "100.00", "25000.5000"})
+    public String betAmount;
+
+    private final FixedContributionStrategy fixedStrategy = new FixedContributionStrategy();
+    private final VariableContributionStrategy variableStrategy = new VariableContributionStrategy();
+
+    private BigDecimal bet;
+    private Jackpot jackpot;
+
+    private long scaledBet;
+    private long scaledPercentage;
+    private long scaledPool;
+    private long scaledMaxPool;
+
+    @Setup
+    public void setUp() {
+        bet = new BigDecimal(betAmount);
+        jackpot = poolFill.jackpot();
+
+        scaledBet = ScaledMoney.toScaled(bet);
+        scaledPercentage = ScaledMoney.toScaled(jackpot.getContributionPercentage());
+        scaledPool = ScaledMoney.toScaled(jackpot.getCurrentPoolValue());
+        scaledMaxPool = ScaledMoney.toScaledOrZero(jackpot.getMaxPoolLimit());
+    }
+
+    @Benchmark
+    public BigDecimal fixed() {
+        return fixedStrategy.calculateContribution(bet, jackpot);
+    }
+
+    @Benchmark
+    public BigDecimal variable() {
+        return variableStrategy.calculateContribution(bet, jackpot);
+    }
+
+    @Benchmark
+    public long fixedScaled() {
+        return fixedStrategy.calculateScaledContribution(scaledBet, scaledPercentage, scaledPool, scaledMaxPool);
+    }
+
+    @Benchmark
+    public long variableScaled() {
+        return variableStrategy.calculateScaledContribution(scaledBet, scaledPercentage, scaledPool, scaledMaxPool);
+    }
+}
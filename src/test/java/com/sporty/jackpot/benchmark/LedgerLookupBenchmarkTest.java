@@ -0,0 +1,143 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.benchmark.BenchmarkSupport.SpringBenchmark;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotRewardRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.elapsedNanos;
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.reportLatency;
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.reportThroughput;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBenchmark
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LedgerLookupBenchmarkTest {
+
+    private static final int LEDGER_ROWS = Integer.getInteger("jackpot.benchmark.ledger-rows", 10_000_000);
+    private static final int REWARD_ROWS = Math.max(1, LEDGER_ROWS / 100);
+    private static final int INSERT_CHUNK = 500_000;
+    private static final int PROBES = 1_000;
+    private static final int INDEXED_LOOKUPS = 20_000;
+    private static final int SCAN_LOOKUPS = 3;
+
+    @Autowired
+    private JackpotContributionRepository contributionRepository;
+
+    @Autowired
+    private JackpotRewardRepository rewardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<UUID> contributedBetIds;
+    private List<UUID> rewardedBetIds;
+    private List<UUID> unknownBetIds;
+
+    @BeforeAll
+    void fillLedger() throws Exception {
+        contributionRepository.deleteAllInBatch();
+        rewardRepository.deleteAllInBatch();
+
+        long elapsedNanos = elapsedNanos(() -> {
+            fill("jackpot_contributions", LEDGER_ROWS, "id, bet_id, user_id, jackpot_id, stake_amount, "
+                    + "contribution_amount, current_jackpot_amount, created_at",
+                    "RANDOM_UUID(), RANDOM_UUID(), RANDOM_UUID(), RANDOM_UUID(), 100, 5, 1005, CURRENT_TIMESTAMP");
+            fill("jackpot_rewards", REWARD_ROWS, "id, bet_id, user_id, jackpot_id, reward_amount, created_at",
+                    "RANDOM_UUID(), RANDOM_UUID(), RANDOM_UUID(), RANDOM_UUID(), 5000, CURRENT_TIMESTAMP");
+        });
+        reportThroughput("ledger fill", (long) LEDGER_ROWS + REWARD_ROWS, "rows", elapsedNanos,
+                String.format("%,d contributions and %,d rewards", LEDGER_ROWS, REWARD_ROWS));
+
+        contributedBetIds = sampleBetIds("jackpot_contributions");
+        rewardedBetIds = sampleBetIds("jackpot_rewards");
+        unknownBetIds = new ArrayList<>(PROBES);
+        for (int i = 0; i < PROBES; i++) {
+            unknownBetIds.add(UUID.randomUUID());
+        }
+    }
+
+    @AfterAll
+    void clearLedger() {
+        contributionRepository.deleteAllInBatch();
+        rewardRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void betIdLookupsUseIndexes() {
+        assertThat(plan("SELECT * FROM jackpot_contributions WHERE bet_id = '" + UUID.randomUUID() + "'"))
+                .containsIgnoringCase("idx_jackpot_contributions_bet_id");
+        assertThat(plan("SELECT * FROM jackpot_contributions WHERE user_id = '" + UUID.randomUUID() + "'"))
+                .containsIgnoringCase("idx_jackpot_contributions_user_id_created_at");
+        assertThat(plan("SELECT * FROM jackpot_contributions WHERE jackpot_id = '" + UUID.randomUUID() + "' "
+                + "ORDER BY created_at DESC LIMIT 1"))
+                .containsIgnoringCase("idx_jackpot_contributions_jackpot_id_created_at");
+        assertThat(plan("SELECT * FROM jackpot_rewards WHERE bet_id = '" + UUID.randomUUID() + "'"))
+                .containsIgnoringCase("uk_jackpot_rewards_bet_id");
+    }
+
+    @Test
+    void contributionLookups() throws Exception {
+        measure("contributions findByBetId (hit)", INDEXED_LOOKUPS, contributedBetIds,
+                betId -> assertThat(contributionRepository.findByBetId(betId)).hasSize(1));
+        measure("contributions existsByBetId (hit)", INDEXED_LOOKUPS, contributedBetIds,
+                betId -> assertThat(contributionRepository.existsByBetId(betId)).isTrue());
+        measure("contributions existsByBetId (miss)", INDEXED_LOOKUPS, unknownBetIds,
+                betId -> assertThat(contributionRepository.existsByBetId(betId)).isFalse());
+        measure("contributions bet_id full scan", SCAN_LOOKUPS, contributedBetIds,
+                betId -> assertThat(jdbcTemplate.queryForList(
+                        "SELECT id FROM jackpot_contributions USE INDEX () WHERE bet_id = ?", betId)).hasSize(1));
+    }
+
+    @Test
+    void rewardLookups() throws Exception {
+        measure("rewards findByBetId (hit)", INDEXED_LOOKUPS, rewardedBetIds,
+                betId -> assertThat(rewardRepository.findByBetId(betId)).isPresent());
+        measure("rewards findByBetId (miss)", INDEXED_LOOKUPS, unknownBetIds,
+                betId -> assertThat(rewardRepository.findByBetId(betId)).isEmpty());
+        measure("rewards bet_id full scan", SCAN_LOOKUPS, rewardedBetIds,
+                betId -> assertThat(jdbcTemplate.queryForList(
+                        "SELECT id FROM jackpot_rewards USE INDEX () WHERE bet_id = ?", betId)).hasSize(1));
+    }
+
+    private void fill(String table, int rows, String columns, String values) {
+        for (int offset = 0; offset < rows; offset += INSERT_CHUNK) {
+            int size = Math.min(INSERT_CHUNK, rows - offset);
+            jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") SELECT " + values
+                    + " FROM SYSTEM_RANGE(1, ?)", size);
+        }
+    }
+
+    private List<UUID> sampleBetIds(String table) {
+        return jdbcTemplate.queryForList("SELECT bet_id FROM " + table + " LIMIT " + PROBES, UUID.class);
+    }
+
+    private String plan(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+
+    private static void measure(String name, int lookups, List<UUID> betIds, Consumer<UUID> lookup)
+            throws Exception {
+        for (int i = 0; i < Math.min(lookups, betIds.size()); i++) {
+            lookup.accept(betIds.get(i));
+        }
+
+        long elapsedNanos = elapsedNanos(() -> {
+            for (int i = 0; i < lookups; i++) {
+                lookup.accept(betIds.get(i % betIds.size()));
+            }
+        });
+
+        reportLatency(name, lookups, elapsedNanos, String.format("%,d ledger rows", LEDGER_ROWS));
+    }
+}
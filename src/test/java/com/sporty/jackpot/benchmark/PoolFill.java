@@ -0,0 +1,37 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RewardType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public enum PoolFill {
+    NO_LIMIT(null, "1000.0000"),
+    EMPTY("1000000.0000", "1000.0000"),
+    HALF_FULL("1000000.0000", "500000.0000"),
+    NEAR_LIMIT("1000000.0000", "999000.0000");
+
+    private final BigDecimal maxPoolLimit;
+    private final BigDecimal currentPoolValue;
+
+    PoolFill(String maxPoolLimit, String currentPoolValue) {
+        this.maxPoolLimit = maxPoolLimit == null ? null : new BigDecimal(maxPoolLimit);
+        this.currentPoolValue = new BigDecimal(currentPoolValue);
+    }
+
+    Jackpot jackpot() {
+        return Jackpot.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark Jackpot")
+                .initialPoolValue(new BigDecimal("1000.0000"))
+                .currentPoolValue(currentPoolValue)
+                .maxPoolLimit(maxPoolLimit)
+                .contributionType(ContributionType.VARIABLE)
+                .contributionPercentage(new BigDecimal("0.0500"))
+                .rewardType(RewardType.VARIABLE)
+                .rewardChancePercentage(new BigDecimal("0.0010"))
+                .build();
+    }
+}
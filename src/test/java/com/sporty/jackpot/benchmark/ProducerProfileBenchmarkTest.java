@@ -0,0 +1,98 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.config.ProducerProfile;
+import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.kafka.BetMessageSerializer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.elapsedNanos;
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.reportThroughput;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 10, topics = {ProducerProfileBenchmarkTest.TOPIC})
+@Tag("benchmark")
+class ProducerProfileBenchmarkTest {
+
+    static final String TOPIC = "producer-benchmark";
+
+    private static final int SENDERS = 64;
+    private static final int WARMUP_RECORDS = 5_000;
+    private static final int MEASURED_RECORDS = 50_000;
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(ProducerProfile.class)
+    void publishBets(ProducerProfile profile, EmbeddedKafkaBroker broker) throws Exception {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.ACKS_CONFIG, "1");
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, BetMessageSerializer.class);
+        profile.apply(props);
+
+        DefaultKafkaProducerFactory<String, BetMessage> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        try {
+            KafkaTemplate<String, BetMessage> template = new KafkaTemplate<>(producerFactory);
+            send(template, new long[WARMUP_RECORDS]);
+
+            long[] latencies = new long[MEASURED_RECORDS];
+            long elapsedNanos = elapsedNanos(() -> send(template, latencies));
+
+            Arrays.sort(latencies);
+            reportThroughput("Producer profile " + profile, MEASURED_RECORDS, "records", elapsedNanos,
+                    String.format("p50 %.2f ms, p99 %.2f ms, %d concurrent synchronous senders",
+                            percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), SENDERS));
+
+            assertThat(latencies[0]).isPositive();
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    // Each sender publishes and waits like BetController's synchronous path, so batching only comes from concurrency
+    private static void send(KafkaTemplate<String, BetMessage> template, long[] latencies) throws Exception {
+        int records = latencies.length;
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> senders = new ArrayList<>(SENDERS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < SENDERS; i++) {
+                senders.add(executor.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < records) {
+                        BetMessage bet = BetMessageSerializationBenchmark.sampleBet();
+                        long sent = System.nanoTime();
+                        template.send(TOPIC, bet.getJackpotId().toString(), bet).get(30, TimeUnit.SECONDS);
+                        latencies[index] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> sender : senders) {
+            sender.get();
+        }
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RandomSourceType;
+import com.sporty.jackpot.strategy.reward.FixedRewardStrategy;
+import com.sporty.jackpot.strategy.reward.RandomSourceFactory;
+import com.sporty.jackpot.strategy.reward.SecureRandomSource;
+import com.sporty.jackpot.strategy.reward.SplittableRandomSource;
+import com.sporty.jackpot.strategy.reward.VariableRewardStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RewardStrategyBenchmark {
+
+    private static final int CONTENDED_THREADS = 4;
+
+    @Param({"NO_LIMIT", "EMPTY", "HALF_FULL", "NEAR_LIMIT"})
+    public PoolFill poolFill;
+
+    @Param({"SECURE", "SPLITTABLE"})
+    public RandomSourceType randomSource;
+
+    private final RandomSourceFactory randomSources = new RandomSourceFactory(
+            List.of(new SecureRandomSource(), new SplittableRandomSource()), RandomSourceType.SECURE);
+    private final FixedRewardStrategy fixedStrategy = new FixedRewardStrategy(randomSources);
+    private final VariableRewardStrategy variableStrategy = new VariableRewardStrategy(randomSources);
+
+    private Jackpot jackpot;
+
+    @Setup
+    public void setUp() {
+        jackpot = poolFill.jackpot();
+        jackpot.setRandomSource(randomSource);
+    }
+
+    @Benchmark
+    public boolean fixed() {
+        return fixedStrategy.evaluateWin(jackpot);
+    }
+
+    @Benchmark
+    public boolean variable() {
+        return variableStrategy.evaluateWin(jackpot);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public boolean fixedContended() {
+        return fixedStrategy.evaluateWin(jackpot);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public boolean variableContended() {
+        return variableStrategy.evaluateWin(jackpot);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sporty.jackpot.benchmark;
+
+import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.kafka.BetMessageSerializer;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Collection;
+
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.report;
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.runJmh;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class SerializationBenchmarkTest {
+
+    @Test
+    void betMessageFormats() throws RunnerException {
+        BetMessage bet = BetMessageSerializationBenchmark.sampleBet();
+        int jsonBytes = recordBytes(BetMessageSerializer.Format.JSON, bet);
+        int binaryBytes = recordBytes(BetMessageSerializer.Format.BINARY, bet);
+        report("BetMessage JSON", jsonBytes + " bytes/record (value + headers)");
+        report("BetMessage binary", binaryBytes + " bytes/record (value + headers)");
+
+        Collection<RunResult> results = runJmh("serialization", BetMessageSerializationBenchmark.class);
+
+        assertThat(binaryBytes).isLessThan(jsonBytes);
+        assertThat(results).isNotEmpty();
+    }
+
+    private static int recordBytes(BetMessageSerializer.Format format, BetMessage bet) {
+        try (BetMessageSerializer serializer = new BetMessageSerializer(format)) {
+            Headers headers = new RecordHeaders();
+            int bytes = serializer.serialize(BetMessageSerializationBenchmark.TOPIC, headers, bet).length;
+            for (Header header : headers) {
+                bytes += header.key().length() + header.value().length;
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sporty.jackpot.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Collection;
+
+import static com.sporty.jackpot.benchmark.BenchmarkSupport.runJmh;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class StrategyBenchmarkTest {
+
+    @Test
+    void strategies() throws RunnerException {
+        Collection<RunResult> results = runJmh("strategies",
+                ContributionStrategyBenchmark.class, RewardStrategyBenchmark.class);
+
+        assertThat(results).isNotEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.sporty.jackpot.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sporty.jackpot.dto.BetBatchRequest;
 import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.dto.BetRequest;
 import com.sporty.jackpot.entity.Bet;
@@ -8,27 +9,42 @@ import com.sporty.jackpot.entity.BetStatus;
 import com.sporty.jackpot.exception.BetNotFoundException;
 import com.sporty.jackpot.kafka.KafkaBetProducer;
 import com.sporty.jackpot.service.BetService;
+import com.sporty.jackpot.service.BetStatusNotifier;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BetController.class)
@@ -45,6 +61,15 @@ class BetControllerTest {
     @MockitoBean
     private BetService betService;
 
+    @MockitoBean(name = "betStatusExecutor")
+    private TaskExecutor betStatusExecutor;
+
+    @MockitoBean
+    private BetStatusNotifier betStatusNotifier;
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<Consumer<BetStatus>> listener = ArgumentCaptor.forClass(Consumer.class);
+
     @Test
     void publishBet_validRequest_returns201() throws Exception {
         BetRequest request = BetRequest.builder()
@@ -148,17 +173,7 @@ class BetControllerTest {
     @Test
     void getBet_existingBet_returnsBetStatus() throws Exception {
         UUID betId = UUID.randomUUID();
-        Bet bet = Bet.builder()
-                .id(betId)
-                .userId(UUID.randomUUID())
-                .jackpotId(UUID.randomUUID())
-                .betAmount(BigDecimal.valueOf(100))
-                .status(BetStatus.PROCESSED)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-
-        when(betService.getBet(betId)).thenReturn(bet);
+        when(betService.getBetStatus(betId)).thenReturn(BetStatus.PROCESSED);
 
         mockMvc.perform(get("/api/v1/bets/{id}", betId))
                 .andExpect(status().isOk())
@@ -170,13 +185,73 @@ class BetControllerTest {
     void getBet_nonExistingBet_returns404() throws Exception {
         UUID betId = UUID.randomUUID();
 
-        when(betService.getBet(betId)).thenThrow(new BetNotFoundException(betId));
+        when(betService.getBetStatus(betId)).thenThrow(new BetNotFoundException(betId));
 
         mockMvc.perform(get("/api/v1/bets/{id}", betId))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    void streamBetEvents_finalStatus_sendsStatusAndCompletes() throws Exception {
+        UUID betId = UUID.randomUUID();
+        BetStatusNotifier.Subscription subscription = subscribeDirectly(betId);
+        when(betService.getBetStatus(betId)).thenReturn(BetStatus.PROCESSED);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/bets/{id}/events", betId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:status")))
+                .andExpect(content().string(containsString("\"status\":\"PROCESSED\"")));
+        verify(subscription).deliver(BetStatus.PROCESSED);
+        verify(subscription).cancel();
+    }
+
+    @Test
+    void streamBetEvents_transitionToFinalStatus_completesStream() throws Exception {
+        UUID betId = UUID.randomUUID();
+        subscribeDirectly(betId);
+        when(betService.getBetStatus(betId)).thenReturn(BetStatus.PUBLISHED);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/bets/{id}/events", betId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        listener.getValue().accept(BetStatus.PROCESSING);
+        listener.getValue().accept(BetStatus.PROCESSED);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"status\":\"PUBLISHED\"")))
+                .andExpect(content().string(containsString("\"status\":\"PROCESSING\"")))
+                .andExpect(content().string(containsString("\"status\":\"PROCESSED\"")));
+    }
+
+    @Test
+    void streamBetEvents_nonExistingBet_returns404AndUnsubscribes() throws Exception {
+        UUID betId = UUID.randomUUID();
+        BetStatusNotifier.Subscription subscription = subscribeDirectly(betId);
+        when(betService.getBetStatus(betId)).thenThrow(new BetNotFoundException(betId));
+
+        mockMvc.perform(get("/api/v1/bets/{id}/events", betId))
+                .andExpect(status().isNotFound());
+        verify(subscription).cancel();
+        verify(subscription, never()).deliver(any());
+    }
+
+    // The mocked subscription passes delivered statuses straight to the endpoint's listener
+    private BetStatusNotifier.Subscription subscribeDirectly(UUID betId) {
+        BetStatusNotifier.Subscription subscription = mock(BetStatusNotifier.Subscription.class);
+        when(betStatusNotifier.subscribe(eq(betId), listener.capture())).thenReturn(subscription);
+        doAnswer(invocation -> {
+            listener.getValue().accept(invocation.getArgument(0));
+            return null;
+        }).when(subscription).deliver(any());
+        return subscription;
+    }
+
     // ========== Edge Case Tests ==========
 
     @Test
@@ -371,4 +446,281 @@ class BetControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.errors").exists());
     }
+
+    @Test
+    void publishBet_outboxEnabled_returns202WithoutPublishing() throws Exception {
+        BetRequest request = validRequest();
+
+        when(betService.createBet(any(UUID.class), any(BetRequest.class))).thenReturn(pendingBet(request));
+        when(betService.isOutboxEnabled()).thenReturn(true);
+
+        mockMvc.perform(post("/api/v1/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(kafkaBetProducer, never()).publishBetSync(any());
+        verify(betService, never()).updateStatus(any(), any());
+    }
+
+    @Test
+    void publishBetAsync_outboxEnabled_returns202WithoutPublishing() throws Exception {
+        BetRequest request = validRequest();
+
+        when(betService.createBet(any(UUID.class), any(BetRequest.class))).thenReturn(pendingBet(request));
+        when(betService.isOutboxEnabled()).thenReturn(true);
+
+        mockMvc.perform(post("/api/v1/bets/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted());
+
+        verify(kafkaBetProducer, never()).publishBet(any());
+    }
+
+    @Test
+    void publishBetAsync_validRequest_returns202WithoutWaitingForBroker() throws Exception {
+        BetRequest request = validRequest();
+        Bet bet = pendingBet(request);
+
+        when(betService.createBet(any(UUID.class), any(BetRequest.class))).thenReturn(bet);
+        when(betService.toMessage(bet)).thenReturn(toMessage(bet));
+        when(kafkaBetProducer.publishBet(any())).thenReturn(new CompletableFuture<>());
+
+        mockMvc.perform(post("/api/v1/bets/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.betId").exists())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(kafkaBetProducer).publishBet(any());
+        verify(kafkaBetProducer, never()).publishBetSync(any());
+        verify(betService, never()).transitionStatus(any(), any(), any());
+    }
+
+    @Test
+    void publishBetAsync_brokerAck_marksBetPublished() throws Exception {
+        BetRequest request = validRequest();
+        Bet bet = pendingBet(request);
+
+        when(betService.createBet(any(UUID.class), any(BetRequest.class))).thenReturn(bet);
+        when(betService.toMessage(bet)).thenReturn(toMessage(bet));
+        when(kafkaBetProducer.publishBet(any())).thenReturn(CompletableFuture.completedFuture(null));
+        runInline();
+
+        mockMvc.perform(post("/api/v1/bets/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted());
+
+        verify(betService).transitionStatus(any(UUID.class), eq(BetStatus.PENDING), eq(BetStatus.PUBLISHED));
+    }
+
+    @Test
+    void publishBetAsync_brokerFailure_marksBetFailed() throws Exception {
+        BetRequest request = validRequest();
+        Bet bet = pendingBet(request);
+
+        when(betService.createBet(any(UUID.class), any(BetRequest.class))).thenReturn(bet);
+        when(betService.toMessage(bet)).thenReturn(toMessage(bet));
+        when(kafkaBetProducer.publishBet(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka connection failed")));
+        runInline();
+
+        mockMvc.perform(post("/api/v1/bets/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted());
+
+        verify(betService).transitionStatus(any(UUID.class), eq(BetStatus.PENDING), eq(BetStatus.FAILED));
+    }
+
+    @Test
+    void publishBetAsync_missingUserId_returns400() throws Exception {
+        BetRequest request = BetRequest.builder()
+                .jackpotId(UUID.randomUUID())
+                .betAmount(BigDecimal.valueOf(100))
+                .build();
+
+        mockMvc.perform(post("/api/v1/bets/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.userId").exists());
+
+        verify(kafkaBetProducer, never()).publishBet(any());
+    }
+
+    @Test
+    void publishBets_allAcknowledged_returns201WithPerBetResults() throws Exception {
+        BetBatchRequest request = batchRequest(2);
+        List<Bet> bets = request.getBets().stream().map(BetControllerTest::pendingBet).toList();
+
+        when(betService.createBets(any())).thenReturn(bets);
+        when(kafkaBetProducer.publishBetsAndWait(any()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null)));
+
+        mockMvc.perform(post("/api/v1/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].betId").value(bets.get(0).getId().toString()))
+                .andExpect(jsonPath("$.results[1].status").value("PUBLISHED"));
+
+        verify(betService).transitionStatuses(
+                List.of(bets.get(0).getId(), bets.get(1).getId()), BetStatus.PENDING, BetStatus.PUBLISHED);
+        verify(kafkaBetProducer, never()).publishBetSync(any());
+    }
+
+    @Test
+    void publishBets_partialFailure_returns207AndMarksFailedBets() throws Exception {
+        BetBatchRequest request = batchRequest(2);
+        List<Bet> bets = request.getBets().stream().map(BetControllerTest::pendingBet).toList();
+
+        when(betService.createBets(any())).thenReturn(bets);
+        when(kafkaBetProducer.publishBetsAndWait(any())).thenReturn(List.of(
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.failedFuture(new RuntimeException("Kafka connection failed"))));
+
+        mockMvc.perform(post("/api/v1/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("PUBLISHED"))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"));
+
+        verify(betService).transitionStatuses(List.of(bets.get(0).getId()), BetStatus.PENDING, BetStatus.PUBLISHED);
+        verify(betService).transitionStatuses(List.of(bets.get(1).getId()), BetStatus.PENDING, BetStatus.FAILED);
+    }
+
+    @Test
+    void publishBets_sendStillRunning_keepsBetPendingUntilAcknowledged() throws Exception {
+        BetBatchRequest request = batchRequest(2);
+        List<Bet> bets = request.getBets().stream().map(BetControllerTest::pendingBet).toList();
+        CompletableFuture<SendResult<String, BetMessage>> running = new CompletableFuture<>();
+
+        when(betService.createBets(any())).thenReturn(bets);
+        when(kafkaBetProducer.publishBetsAndWait(any())).thenReturn(List.of(
+                CompletableFuture.completedFuture(null), running));
+        runInline();
+
+        mockMvc.perform(post("/api/v1/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].status").value("PUBLISHED"))
+                .andExpect(jsonPath("$.results[1].status").value("PENDING"));
+
+        verify(betService).transitionStatuses(List.of(), BetStatus.PENDING, BetStatus.FAILED);
+        verify(betService, never()).transitionStatus(any(), any(), any());
+
+        running.complete(null);
+
+        verify(betService).transitionStatus(bets.get(1).getId(), BetStatus.PENDING, BetStatus.PUBLISHED);
+    }
+
+    @Test
+    void publishBets_outboxEnabled_returns202WithoutPublishing() throws Exception {
+        BetBatchRequest request = batchRequest(3);
+        List<Bet> bets = request.getBets().stream().map(BetControllerTest::pendingBet).toList();
+
+        when(betService.createBets(any())).thenReturn(bets);
+        when(betService.isOutboxEnabled()).thenReturn(true);
+
+        mockMvc.perform(post("/api/v1/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(3))
+                .andExpect(jsonPath("$.results[2].status").value("PENDING"));
+
+        verify(kafkaBetProducer, never()).publishBetsAndWait(any());
+    }
+
+    @Test
+    void publishBets_emptyBatch_returns400() throws Exception {
+        mockMvc.perform(post("/api/v1/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bets\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.bets").exists());
+
+        verify(betService, never()).createBets(any());
+    }
+
+    @Test
+    void publishBets_tooManyBets_returns400() throws Exception {
+        mockMvc.perform(post("/api/v1/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest(BetBatchRequest.MAX_BETS + 1))))
+                .andExpect(status().isBadRequest());
+
+        verify(betService, never()).createBets(any());
+    }
+
+    @Test
+    void publishBets_invalidBet_returns400WithBetIndex() throws Exception {
+        BetBatchRequest request = batchRequest(2);
+        request.getBets().get(1).setUserId(null);
+
+        mockMvc.perform(post("/api/v1/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['bets[1].userId']").exists());
+
+        verify(betService, never()).createBets(any());
+    }
+
+    private void runInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(betStatusExecutor).execute(any());
+    }
+
+    private static BetRequest validRequest() {
+        return BetRequest.builder()
+                .userId(UUID.randomUUID())
+                .jackpotId(UUID.randomUUID())
+                .betAmount(BigDecimal.valueOf(100))
+                .build();
+    }
+
+    private static BetBatchRequest batchRequest(int size) {
+        List<BetRequest> bets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bets.add(validRequest());
+        }
+        return BetBatchRequest.builder().bets(bets).build();
+    }
+
+    private static Bet pendingBet(BetRequest request) {
+        return Bet.builder()
+                .id(UUID.randomUUID())
+                .userId(request.getUserId())
+                .jackpotId(request.getJackpotId())
+                .betAmount(request.getBetAmount())
+                .status(BetStatus.PENDING)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    private static BetMessage toMessage(Bet bet) {
+        return BetMessage.builder()
+                .betId(bet.getId())
+                .userId(bet.getUserId())
+                .jackpotId(bet.getJackpotId())
+                .betAmount(bet.getBetAmount())
+                .build();
+    }
 }
@@ -2,28 +2,44 @@ package com.sporty.jackpot.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sporty.jackpot.dto.JackpotDto;
+import com.sporty.jackpot.dto.JackpotPage;
 import com.sporty.jackpot.dto.JackpotRequest;
 import com.sporty.jackpot.entity.ContributionType;
 import com.sporty.jackpot.entity.RewardType;
+import com.sporty.jackpot.exception.InvalidCursorException;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
 import com.sporty.jackpot.service.JackpotService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(JackpotController.class)
@@ -37,6 +53,9 @@ class JackpotControllerTest {
     @MockitoBean
     private JackpotService jackpotService;
 
+    @MockitoBean(name = "jackpotStreamExecutor")
+    private TaskExecutor jackpotStreamExecutor;
+
     @Test
     void createJackpot_validRequest_returns201() throws Exception {
         JackpotRequest request = JackpotRequest.builder()
@@ -180,11 +199,88 @@ class JackpotControllerTest {
 
         mockMvc.perform(get("/api/v1/jackpots"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(JackpotController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].name").value("Jackpot 1"))
                 .andExpect(jsonPath("$[1].name").value("Jackpot 2"));
     }
 
+    @Test
+    void getJackpots_morePages_returnsNextCursorHeader() throws Exception {
+        JackpotDto jackpot = JackpotDto.builder()
+                .id(UUID.randomUUID())
+                .name("Jackpot 1")
+                .createdAt(Instant.now())
+                .build();
+
+        when(jackpotService.getJackpots(eq("abc"), eq(1))).thenReturn(new JackpotPage(List.of(jackpot), "def"));
+
+        mockMvc.perform(get("/api/v1/jackpots").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(JackpotController.NEXT_CURSOR_HEADER, "def"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getJackpots_limitWithoutCursor_returnsFirstPage() throws Exception {
+        JackpotDto jackpot = JackpotDto.builder().id(UUID.randomUUID()).name("Jackpot 1").build();
+        when(jackpotService.getJackpots(isNull(), eq(1))).thenReturn(new JackpotPage(List.of(jackpot), "def"));
+
+        mockMvc.perform(get("/api/v1/jackpots").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(JackpotController.NEXT_CURSOR_HEADER, "def"))
+                .andExpect(jsonPath("$.length()").value(1));
+        verify(jackpotService, never()).getAllJackpots();
+    }
+
+    @Test
+    void getJackpots_cursorWithoutLimit_usesDefaultPageSize() throws Exception {
+        when(jackpotService.getJackpots("abc", JackpotService.DEFAULT_PAGE_SIZE))
+                .thenReturn(new JackpotPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/jackpots").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void getJackpots_invalidCursor_returns400() throws Exception {
+        when(jackpotService.getJackpots(eq("garbage"), anyInt()))
+                .thenThrow(new InvalidCursorException("garbage"));
+
+        mockMvc.perform(get("/api/v1/jackpots").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid page cursor: garbage"));
+    }
+
+    @Test
+    void streamJackpots_writesOneJsonObjectPerLine() throws Exception {
+        JackpotDto jackpot1 = JackpotDto.builder().id(UUID.randomUUID()).name("Jackpot 1").build();
+        JackpotDto jackpot2 = JackpotDto.builder().id(UUID.randomUUID()).name("Jackpot 2").build();
+
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(jackpotStreamExecutor).execute(any());
+        doAnswer(invocation -> {
+            Consumer<JackpotDto> sink = invocation.getArgument(0);
+            sink.accept(jackpot1);
+            sink.accept(jackpot2);
+            return null;
+        }).when(jackpotService).streamJackpots(any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/jackpots/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString(MediaType.APPLICATION_NDJSON_VALUE)))
+                .andExpect(content().string(containsString("\"name\":\"Jackpot 1\"")))
+                .andExpect(content().string(containsString("}\n{")))
+                .andExpect(content().string(containsString("\"name\":\"Jackpot 2\"")));
+    }
+
     // ========== Edge Case Tests ==========
 
     @Test
@@ -4,11 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sporty.jackpot.dto.RewardRequest;
 import com.sporty.jackpot.entity.JackpotReward;
 import com.sporty.jackpot.exception.ContributionNotFoundException;
+import com.sporty.jackpot.exception.DuplicateRewardException;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
 import com.sporty.jackpot.service.JackpotRewardService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -333,4 +335,39 @@ class RewardControllerTest {
                 .andExpect(jsonPath("$.rewardAmount").value(5000))
                 .andExpect(jsonPath("$.message").exists());
     }
+
+    @Test
+    void evaluateReward_concurrentDuplicateReward_returns409() throws Exception {
+        RewardRequest request = RewardRequest.builder()
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(UUID.randomUUID())
+                .build();
+
+        when(rewardService.evaluateReward(any(), any(), any()))
+                .thenThrow(new DuplicateRewardException(request.getBetId(), null));
+
+        mockMvc.perform(post("/api/v1/rewards/evaluate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    void evaluateReward_otherIntegrityViolation_returns500() throws Exception {
+        RewardRequest request = RewardRequest.builder()
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(UUID.randomUUID())
+                .build();
+
+        when(rewardService.evaluateReward(any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("NULL not allowed for column \"reward_amount\""));
+
+        mockMvc.perform(post("/api/v1/rewards/evaluate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isInternalServerError());
+    }
 }
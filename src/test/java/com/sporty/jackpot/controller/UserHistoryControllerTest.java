@@ -0,0 +1,77 @@
+package com.sporty.jackpot.controller;
+
+import com.sporty.jackpot.dto.ContributionHistoryDto;
+import com.sporty.jackpot.dto.HistoryPage;
+import com.sporty.jackpot.dto.RewardHistoryDto;
+import com.sporty.jackpot.exception.InvalidCursorException;
+import com.sporty.jackpot.service.UserHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserHistoryController.class)
+class UserHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserHistoryService userHistoryService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void getContributions_firstPage_usesDefaultLimit() throws Exception {
+        ContributionHistoryDto contribution = new ContributionHistoryDto(UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), BigDecimal.valueOf(100), BigDecimal.valueOf(5), BigDecimal.valueOf(1005),
+                Instant.now());
+        when(userHistoryService.getContributions(eq(userId), isNull(), eq(UserHistoryService.DEFAULT_PAGE_SIZE)))
+                .thenReturn(new HistoryPage<>(List.of(contribution), null));
+
+        mockMvc.perform(get("/api/v1/users/{userId}/contributions", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(JackpotController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].betId").value(contribution.betId().toString()))
+                .andExpect(jsonPath("$[0].contributionAmount").value(5));
+    }
+
+    @Test
+    void getRewards_morePages_returnsNextCursorHeader() throws Exception {
+        RewardHistoryDto reward = new RewardHistoryDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                BigDecimal.valueOf(5000), Instant.now());
+        when(userHistoryService.getRewards(userId, "abc", 1))
+                .thenReturn(new HistoryPage<>(List.of(reward), "def"));
+
+        mockMvc.perform(get("/api/v1/users/{userId}/rewards", userId).param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(JackpotController.NEXT_CURSOR_HEADER, "def"))
+                .andExpect(jsonPath("$[0].rewardAmount").value(5000));
+    }
+
+    @Test
+    void getContributions_invalidCursor_returns400() throws Exception {
+        when(userHistoryService.getContributions(eq(userId), eq("garbage"), anyInt()))
+                .thenThrow(new InvalidCursorException("garbage"));
+
+        mockMvc.perform(get("/api/v1/users/{userId}/contributions", userId).param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid page cursor: garbage"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.dto.BetMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetMessageSerializerTest {
+
+    private static final String TOPIC = "jackpot-bets";
+
+    private final BetMessageDeserializer deserializer = new BetMessageDeserializer();
+
+    private BetMessage bet;
+
+    @BeforeEach
+    void setUp() {
+        deserializer.configure(Map.of("spring.json.trusted.packages", "com.sporty.jackpot.*"), false);
+        bet = BetMessage.builder()
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(UUID.randomUUID())
+                .betAmount(new BigDecimal("12345.6789"))
+                .createdAtMillis(1_700_000_000_123L)
+                .build();
+    }
+
+    @Test
+    void binary_roundTripsAllFieldsWithVersionHeader() {
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer(BetMessageSerializer.Format.BINARY).serialize(TOPIC, headers, bet);
+
+        assertThat(data).hasSize(BetMessageCodec.V1_SIZE);
+        assertThat(headers.lastHeader(BetMessageCodec.VERSION_HEADER).value())
+                .containsExactly(BetMessageCodec.VERSION_1);
+        assertThat(deserializer.deserialize(TOPIC, headers, data)).isEqualTo(bet);
+    }
+
+    @Test
+    void binary_missingCreationTime_staysAbsent() {
+        bet.setCreatedAtMillis(null);
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer(BetMessageSerializer.Format.BINARY).serialize(TOPIC, headers, bet);
+
+        assertThat(deserializer.deserialize(TOPIC, headers, data).getCreatedAtMillis()).isNull();
+    }
+
+    @Test
+    void binary_isSmallerThanJson() {
+        byte[] json = serializer(BetMessageSerializer.Format.JSON).serialize(TOPIC, new RecordHeaders(), bet);
+        byte[] binary = serializer(BetMessageSerializer.Format.BINARY).serialize(TOPIC, new RecordHeaders(), bet);
+
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void json_recordWithoutVersionHeader_isReadAsJson() {
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer(BetMessageSerializer.Format.JSON).serialize(TOPIC, headers, bet);
+
+        assertThat(headers.lastHeader(BetMessageCodec.VERSION_HEADER)).isNull();
+        assertThat(deserializer.deserialize(TOPIC, headers, data)).isEqualTo(bet);
+    }
+
+    @Test
+    void json_republishedBinaryRecord_dropsVersionHeader() {
+        Headers headers = new RecordHeaders();
+        serializer(BetMessageSerializer.Format.BINARY).serialize(TOPIC, headers, bet);
+
+        byte[] data = serializer(BetMessageSerializer.Format.JSON).serialize(TOPIC + "-dlq", headers, bet);
+
+        assertThat(headers.lastHeader(BetMessageCodec.VERSION_HEADER)).isNull();
+        assertThat(deserializer.deserialize(TOPIC + "-dlq", headers, data)).isEqualTo(bet);
+    }
+
+    @Test
+    void configure_selectsFormatFromProducerProperties() {
+        BetMessageSerializer serializer = new BetMessageSerializer();
+        serializer.configure(Map.of(BetMessageSerializer.FORMAT_CONFIG, "binary"), false);
+
+        byte[] data = serializer.serialize(TOPIC, new RecordHeaders(), bet);
+
+        assertThat(data).hasSize(BetMessageCodec.V1_SIZE);
+    }
+
+    @Test
+    void binary_amountTooLarge_throws() {
+        bet.setBetAmount(new BigDecimal("123456789012345678901234567890"));
+
+        assertThatThrownBy(() -> serializer(BetMessageSerializer.Format.BINARY)
+                .serialize(TOPIC, new RecordHeaders(), bet))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void deserialize_unknownVersion_throws() {
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer(BetMessageSerializer.Format.BINARY).serialize(TOPIC, headers, bet);
+        headers.remove(BetMessageCodec.VERSION_HEADER);
+        headers.add(BetMessageCodec.VERSION_HEADER, new byte[] {2});
+
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers, data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("version");
+    }
+
+    private static BetMessageSerializer serializer(BetMessageSerializer.Format format) {
+        return new BetMessageSerializer(format);
+    }
+}
@@ -0,0 +1,129 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.repository.BetOutboxRepository;
+import com.sporty.jackpot.service.BetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@EmbeddedKafka(partitions = 1, topics = {"jackpot-bets"})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+})
+class BetOutboxRelayOrderingTest {
+
+    private static final int BETS_PER_JACKPOT = 30;
+
+    @Autowired
+    private BetOutboxRepository outboxRepository;
+
+    @Autowired
+    private BetService betService;
+
+    @Autowired
+    private BetOutboxClaimLock claimLock;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<BetMessage> sent = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void concurrentRelays_publishEachJackpotInCreationOrder() throws Exception {
+        Map<UUID, List<UUID>> expected = Map.of(
+                UUID.randomUUID(), new ArrayList<>(), UUID.randomUUID(), new ArrayList<>());
+        Instant base = Instant.parse("2025-01-10T12:00:00Z");
+        int i = 0;
+        for (int n = 0; n < BETS_PER_JACKPOT; n++) {
+            for (var entry : expected.entrySet()) {
+                UUID betId = UUID.randomUUID();
+                insertOutboxEntry(betId, entry.getKey(), base.plusMillis(i++));
+                entry.getValue().add(betId);
+            }
+        }
+
+        KafkaBetProducer producer = mock(KafkaBetProducer.class);
+        when(producer.publishBetsAndWait(anyList(), anyLong())).thenAnswer(invocation -> {
+            List<BetMessage> bets = invocation.getArgument(0);
+            Thread.sleep(5);
+            sent.addAll(bets);
+            return bets.stream()
+                    .map(bet -> CompletableFuture.<SendResult<String, BetMessage>>completedFuture(null))
+                    .toList();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                BetOutboxRelay relay = relay(producer);
+                runs.add(executor.submit(() -> {
+                    while (outboxRepository.count() > 0) {
+                        relay.relay();
+                    }
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<UUID, List<UUID>> sentByJackpot = sent.stream()
+                .collect(Collectors.groupingBy(BetMessage::getJackpotId,
+                        Collectors.mapping(BetMessage::getBetId, Collectors.toList())));
+        assertThat(sentByJackpot).isEqualTo(expected);
+    }
+
+    private BetOutboxRelay relay(KafkaBetProducer producer) {
+        BetOutboxRelay relay = new BetOutboxRelay(outboxRepository, betService, producer, claimLock,
+                transactionManager);
+        ReflectionTestUtils.setField(relay, "enabled", true);
+        ReflectionTestUtils.setField(relay, "batchSize", 4);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 1);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(relay, "claimTimeoutMs", 30_000L);
+        return relay;
+    }
+
+    private void insertOutboxEntry(UUID betId, UUID jackpotId, Instant createdAt) {
+        jdbcTemplate.update("INSERT INTO bet_outbox (id, bet_id, user_id, jackpot_id, bet_amount, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", UUID.randomUUID(), betId, UUID.randomUUID(), jackpotId,
+                BigDecimal.valueOf(100), createdAt.atOffset(ZoneOffset.UTC));
+    }
+}
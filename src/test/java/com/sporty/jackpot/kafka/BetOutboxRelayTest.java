@@ -0,0 +1,229 @@
+package com.sporty.jackpot.kafka;
+
+import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.entity.BetOutboxEntry;
+import com.sporty.jackpot.entity.BetStatus;
+import com.sporty.jackpot.repository.BetOutboxRepository;
+import com.sporty.jackpot.service.BetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BetOutboxRelayTest {
+
+    @Mock
+    private BetOutboxRepository outboxRepository;
+
+    @Mock
+    private BetService betService;
+
+    @Mock
+    private KafkaBetProducer kafkaBetProducer;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BetOutboxClaimLock claimLock;
+
+    private BetOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        claimLock = new BetOutboxClaimLock(jdbcTemplate);
+        relay = new BetOutboxRelay(outboxRepository, betService, kafkaBetProducer, claimLock, transactionManager);
+        ReflectionTestUtils.setField(relay, "enabled", true);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 10_000L);
+    }
+
+    @Test
+    void relay_disabled_doesNothing() {
+        ReflectionTestUtils.setField(relay, "enabled", false);
+
+        relay.relay();
+
+        verifyNoInteractions(outboxRepository, kafkaBetProducer);
+    }
+
+    @Test
+    void relay_emptyOutbox_publishesNothing() {
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class))).thenReturn(List.of());
+
+        relay.relay();
+
+        verify(kafkaBetProducer, never()).publishBetsAndWait(anyList(), anyLong());
+    }
+
+    @Test
+    void relay_allAcknowledged_deletesEntriesAndMarksBetsPublished() {
+        BetOutboxEntry entry = entry();
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class))).thenReturn(List.of(entry));
+        when(kafkaBetProducer.publishBetsAndWait(anyList(), anyLong())).thenReturn(List.of(acknowledged()));
+
+        relay.relay();
+
+        ArgumentCaptor<List<BetMessage>> messagesCaptor = ArgumentCaptor.captor();
+        verify(kafkaBetProducer).publishBetsAndWait(messagesCaptor.capture(), eq(10_000L));
+        BetMessage message = messagesCaptor.getValue().getFirst();
+        assertThat(message.getBetId()).isEqualTo(entry.getBetId());
+        assertThat(message.getJackpotId()).isEqualTo(entry.getJackpotId());
+        assertThat(message.getBetAmount()).isEqualByComparingTo(entry.getBetAmount());
+        assertThat(message.getCreatedAtMillis()).isEqualTo(entry.getCreatedAt().toEpochMilli());
+
+        verify(outboxRepository).claimByIdIn(eq(List.of(entry.getId())), any());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(entry.getId()));
+        verify(betService).transitionStatuses(List.of(entry.getBetId()), BetStatus.PENDING, BetStatus.PUBLISHED);
+        verify(outboxRepository, never()).releaseByIdIn(anyList());
+    }
+
+    @Test
+    void relay_advisoryLockEnabled_locksBeforeClaiming() {
+        ReflectionTestUtils.setField(claimLock, "advisoryLockEnabled", true);
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class))).thenReturn(List.of());
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(jdbcTemplate, outboxRepository);
+        inOrder.verify(jdbcTemplate)
+                .execute("SELECT pg_advisory_xact_lock(" + BetOutboxClaimLock.ADVISORY_LOCK_KEY + ")");
+        inOrder.verify(outboxRepository).findBatchForRelay(any(Instant.class), any(Limit.class));
+    }
+
+    @Test
+    void relay_advisoryLockDisabled_claimsWithoutIt() {
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class))).thenReturn(List.of());
+
+        relay.relay();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void relay_partialFailure_keepsFailedEntriesForNextRun() {
+        BetOutboxEntry delivered = entry();
+        BetOutboxEntry rejected = entry();
+        CompletableFuture<SendResult<String, BetMessage>> failure =
+                CompletableFuture.failedFuture(new RuntimeException("Broker down"));
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(delivered, rejected));
+        when(kafkaBetProducer.publishBetsAndWait(anyList(), anyLong()))
+                .thenReturn(List.of(acknowledged(), failure));
+
+        relay.relay();
+
+        verify(outboxRepository, times(1)).findBatchForRelay(any(Instant.class), any(Limit.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(delivered.getId()));
+        verify(betService).transitionStatuses(List.of(delivered.getBetId()), BetStatus.PENDING, BetStatus.PUBLISHED);
+        verify(outboxRepository).releaseByIdIn(List.of(rejected.getId()));
+    }
+
+    @Test
+    void relay_failureWithinJackpot_keepsItsLaterBetsQueued() {
+        UUID jackpotId = UUID.randomUUID();
+        BetOutboxEntry rejected = entry(jackpotId);
+        BetOutboxEntry later = entry(jackpotId);
+        BetOutboxEntry otherJackpot = entry();
+        ReflectionTestUtils.setField(relay, "batchSize", 3);
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(rejected, later, otherJackpot));
+        when(kafkaBetProducer.publishBetsAndWait(anyList(), anyLong()))
+                .thenReturn(List.of(CompletableFuture.failedFuture(new RuntimeException("Broker down")),
+                        acknowledged(), acknowledged()));
+
+        relay.relay();
+
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(otherJackpot.getId()));
+        verify(betService).transitionStatuses(List.of(otherJackpot.getBetId()), BetStatus.PENDING, BetStatus.PUBLISHED);
+        verify(outboxRepository).releaseByIdIn(List.of(rejected.getId(), later.getId()));
+    }
+
+    @Test
+    void relay_fullBatch_drainsUntilOutboxIsEmpty() {
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(entry(), entry()))
+                .thenReturn(List.of(entry()));
+        when(kafkaBetProducer.publishBetsAndWait(anyList(), anyLong()))
+                .thenReturn(List.of(acknowledged(), acknowledged()))
+                .thenReturn(List.of(acknowledged()));
+
+        relay.relay();
+
+        verify(outboxRepository, times(2)).findBatchForRelay(any(Instant.class), any(Limit.class));
+        verify(outboxRepository, times(2)).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void relay_backlog_stopsAfterMaxBatchesPerRun() {
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 2);
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class)))
+                .thenAnswer(i -> List.of(entry(), entry()));
+        when(kafkaBetProducer.publishBetsAndWait(anyList(), anyLong()))
+                .thenAnswer(i -> List.of(acknowledged(), acknowledged()));
+
+        relay.relay();
+
+        verify(outboxRepository, times(2)).findBatchForRelay(any(Instant.class), any(Limit.class));
+        verify(outboxRepository, times(2)).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void relay_repositoryFailure_isLoggedAndSwallowed() {
+        when(outboxRepository.findBatchForRelay(any(Instant.class), any(Limit.class)))
+                .thenThrow(new RuntimeException("DB down"));
+
+        relay.relay();
+
+        verify(kafkaBetProducer, never()).publishBetsAndWait(anyList(), anyLong());
+    }
+
+    private static BetOutboxEntry entry() {
+        return entry(UUID.randomUUID());
+    }
+
+    private static BetOutboxEntry entry(UUID jackpotId) {
+        return BetOutboxEntry.builder()
+                .id(UUID.randomUUID())
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(jackpotId)
+                .betAmount(BigDecimal.valueOf(100))
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private static CompletableFuture<SendResult<String, BetMessage>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
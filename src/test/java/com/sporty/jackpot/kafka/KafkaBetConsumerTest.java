@@ -1,30 +1,37 @@
 package com.sporty.jackpot.kafka;
 
 import com.sporty.jackpot.dto.BetMessage;
-import com.sporty.jackpot.entity.Bet;
 import com.sporty.jackpot.entity.BetStatus;
 import com.sporty.jackpot.entity.JackpotContribution;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
 import com.sporty.jackpot.repository.BetRepository;
+import com.sporty.jackpot.service.BetStatusCache;
+import com.sporty.jackpot.service.BetStatusNotifier;
 import com.sporty.jackpot.service.JackpotContributionService;
+import com.sporty.jackpot.service.JackpotPoolAccumulator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,14 +46,25 @@ class KafkaBetConsumerTest {
     @Mock
     private BetRepository betRepository;
 
+    @Mock
+    private JackpotPoolAccumulator poolAccumulator;
+
+    @Mock
+    private BetStatusCache statusCache;
+
+    @Mock
+    private BetStatusNotifier statusNotifier;
+
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private KafkaBetConsumer consumer;
 
     private BetMessage bet;
-    private Bet betEntity;
     private UUID betId;
     private UUID userId;
     private UUID jackpotId;
@@ -63,82 +81,72 @@ class KafkaBetConsumerTest {
                 .jackpotId(jackpotId)
                 .betAmount(BigDecimal.valueOf(100))
                 .build();
-
-        betEntity = Bet.builder()
-                .id(betId)
-                .userId(userId)
-                .jackpotId(jackpotId)
-                .betAmount(BigDecimal.valueOf(100))
-                .status(BetStatus.PUBLISHED)
-                .build();
     }
 
     @Test
     void consumeBets_validBatch_processesAndAcknowledges() {
         when(contributionService.processBatch(any())).thenReturn(List.of());
-        when(betRepository.findById(betId)).thenReturn(Optional.of(betEntity));
-        when(betRepository.save(any())).thenReturn(betEntity);
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(1);
 
-        consumer.consumeBets(List.of(bet), acknowledgment);
+        consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment);
 
         verify(contributionService).processBatch(List.of(bet));
         verify(acknowledgment).acknowledge();
-        verify(betRepository).findById(betId);
+        verify(betRepository).updateStatusByIdIn(eq(List.of(betId)), eq(BetStatus.PROCESSED), any());
     }
 
     @Test
     void consumeBets_emptyBatch_stillAcknowledges() {
         when(contributionService.processBatch(any())).thenReturn(List.of());
 
-        consumer.consumeBets(List.of(), acknowledgment);
+        consumer.consumeBets(List.of(), List.of(), List.of(), acknowledgment);
 
         verify(contributionService).processBatch(List.of());
         verify(acknowledgment).acknowledge();
+        verify(betRepository, never()).updateStatusByIdIn(any(), any(), any());
     }
 
     @Test
     void consumeBets_updatesBetStatusToProcessed() {
         when(contributionService.processBatch(any())).thenReturn(List.of());
-        when(betRepository.findById(betId)).thenReturn(Optional.of(betEntity));
-        when(betRepository.save(any())).thenReturn(betEntity);
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(1);
 
-        consumer.consumeBets(List.of(bet), acknowledgment);
+        consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment);
 
-        ArgumentCaptor<Bet> captor = ArgumentCaptor.forClass(Bet.class);
-        verify(betRepository).save(captor.capture());
-        assertThat(captor.getValue().getStatus()).isEqualTo(BetStatus.PROCESSED);
+        verify(betRepository).updateStatusByIdIn(any(), eq(BetStatus.PROCESSED), any());
+        verify(betRepository, never()).findById(any());
+        verify(betRepository, never()).save(any());
+        verify(statusCache).recordAll(List.of(betId), BetStatus.PROCESSED);
+        verify(statusNotifier).publishAll(List.of(betId), BetStatus.PROCESSED);
     }
 
     @Test
-    void consumeBets_processingFailure_updatesBetStatusToFailed() {
+    void consumeBets_processingFailure_leavesStatusToTheRecoverer() {
         when(contributionService.processBatch(any()))
                 .thenThrow(new JackpotNotFoundException(jackpotId));
-        when(betRepository.findById(betId)).thenReturn(Optional.of(betEntity));
-        when(betRepository.save(any())).thenReturn(betEntity);
 
-        assertThatThrownBy(() -> consumer.consumeBets(List.of(bet), acknowledgment))
+        assertThatThrownBy(() -> consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment))
                 .isInstanceOf(JackpotNotFoundException.class);
 
-        ArgumentCaptor<Bet> captor = ArgumentCaptor.forClass(Bet.class);
-        verify(betRepository).save(captor.capture());
-        assertThat(captor.getValue().getStatus()).isEqualTo(BetStatus.FAILED);
+        verify(betRepository, never()).updateStatusByIdIn(any(), any(), any());
         verify(acknowledgment, never()).acknowledge();
+        verify(statusCache, never()).recordAll(any(), any());
+        verify(statusNotifier, never()).publishAll(any(), any());
     }
 
     @Test
     void consumeBets_betNotFoundInRepository_continuesProcessing() {
         when(contributionService.processBatch(any())).thenReturn(List.of());
-        when(betRepository.findById(betId)).thenReturn(Optional.empty());
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(0);
 
-        consumer.consumeBets(List.of(bet), acknowledgment);
+        consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment);
 
         verify(contributionService).processBatch(List.of(bet));
         verify(acknowledgment).acknowledge();
-        verify(betRepository, never()).save(any());
     }
 
     @Test
-    void consumeBets_multipleBets_processesAll() {
+    void consumeBets_multipleBets_updatesAllInOneStatement() {
         BetMessage bet2 = BetMessage.builder()
                 .betId(UUID.randomUUID())
                 .userId(UUID.randomUUID())
@@ -146,19 +154,13 @@ class KafkaBetConsumerTest {
                 .betAmount(BigDecimal.valueOf(200))
                 .build();
 
-        Bet betEntity2 = Bet.builder()
-                .id(bet2.getBetId())
-                .status(BetStatus.PUBLISHED)
-                .build();
-
         when(contributionService.processBatch(any())).thenReturn(List.of());
-        when(betRepository.findById(betId)).thenReturn(Optional.of(betEntity));
-        when(betRepository.findById(bet2.getBetId())).thenReturn(Optional.of(betEntity2));
-        when(betRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(2);
 
-        consumer.consumeBets(List.of(bet, bet2), acknowledgment);
+        consumer.consumeBets(List.of(bet, bet2), List.of(0, 0), timestamps(2), acknowledgment);
 
-        verify(betRepository, times(2)).save(any());
+        verify(betRepository, times(1))
+                .updateStatusByIdIn(eq(List.of(betId, bet2.getBetId())), eq(BetStatus.PROCESSED), any());
         verify(acknowledgment).acknowledge();
     }
 
@@ -176,45 +178,86 @@ class KafkaBetConsumerTest {
         }
 
         when(contributionService.processBatch(any())).thenReturn(List.of());
-        when(betRepository.findById(any())).thenReturn(Optional.empty());
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(100);
 
-        consumer.consumeBets(largeBatch, acknowledgment);
+        consumer.consumeBets(largeBatch, Collections.nCopies(largeBatch.size(), 0),
+                timestamps(largeBatch.size()), acknowledgment);
 
         verify(contributionService).processBatch(largeBatch);
+        verify(betRepository, times(1)).updateStatusByIdIn(any(), eq(BetStatus.PROCESSED), any());
         verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void consumeBets_processingThrowsRuntimeException_marksBetsFailed() {
+    void consumeBets_processingThrowsRuntimeException_rethrowsForRetry() {
         when(contributionService.processBatch(any()))
                 .thenThrow(new RuntimeException("Database connection failed"));
-        when(betRepository.findById(betId)).thenReturn(Optional.of(betEntity));
-        when(betRepository.save(any())).thenReturn(betEntity);
 
-        assertThatThrownBy(() -> consumer.consumeBets(List.of(bet), acknowledgment))
+        assertThatThrownBy(() -> consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Database connection failed");
 
         verify(acknowledgment, never()).acknowledge();
-        ArgumentCaptor<Bet> captor = ArgumentCaptor.forClass(Bet.class);
-        verify(betRepository).save(captor.capture());
-        assertThat(captor.getValue().getStatus()).isEqualTo(BetStatus.FAILED);
+        verify(betRepository, never()).updateStatusByIdIn(any(), eq(BetStatus.FAILED), any());
     }
 
     @Test
-    void consumeBets_onSuccess_preservesBetMetadata() {
+    void consumeBets_recordsStatusUpdateTimer() {
         when(contributionService.processBatch(any())).thenReturn(List.of());
-        when(betRepository.findById(betId)).thenReturn(Optional.of(betEntity));
-        when(betRepository.save(any())).thenReturn(betEntity);
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(1);
 
-        consumer.consumeBets(List.of(bet), acknowledgment);
+        consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment);
 
-        ArgumentCaptor<Bet> captor = ArgumentCaptor.forClass(Bet.class);
-        verify(betRepository).save(captor.capture());
-        Bet saved = captor.getValue();
-        assertThat(saved.getId()).isEqualTo(betId);
-        assertThat(saved.getUserId()).isEqualTo(userId);
-        assertThat(saved.getJackpotId()).isEqualTo(jackpotId);
+        Timer timer = meterRegistry.find("jackpot.bets.status.update").tag("status", "PROCESSED").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void consumeBets_recordsBatchTimerSizeAndLag() {
+        when(contributionService.processBatch(any())).thenReturn(List.of());
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(2);
+
+        consumer.consumeBets(List.of(bet, bet), List.of(0, 1),
+                List.of(System.currentTimeMillis() - 250, System.currentTimeMillis() - 50), acknowledgment);
+
+        Timer consume = meterRegistry.find("jackpot.bets.consume").tag("outcome", "success").timer();
+        assertThat(consume).isNotNull();
+        assertThat(consume.count()).isEqualTo(1);
+        DistributionSummary batchSize = meterRegistry.find("jackpot.bets.consume.batch.size").summary();
+        assertThat(batchSize).isNotNull();
+        assertThat(batchSize.totalAmount()).isEqualTo(2);
+        Timer lag = meterRegistry.find("jackpot.bets.lag").tag("partition", "0").timer();
+        assertThat(lag).isNotNull();
+        assertThat(lag.count()).isEqualTo(1);
+        assertThat(lag.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(250);
+        assertThat(meterRegistry.find("jackpot.bets.lag").tag("partition", "1").timer()).isNotNull();
+    }
+
+    @Test
+    void consumeBets_betCreationTime_measuresLagFromCreation() {
+        when(contributionService.processBatch(any())).thenReturn(List.of());
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(1);
+        bet.setCreatedAtMillis(System.currentTimeMillis() - 5_000);
+
+        consumer.consumeBets(List.of(bet), List.of(3), timestamps(1), acknowledgment);
+
+        Timer lag = meterRegistry.find("jackpot.bets.lag").tag("partition", "3").timer();
+        assertThat(lag).isNotNull();
+        assertThat(lag.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5_000);
+    }
+
+    @Test
+    void consumeBets_processingFailure_recordsFailedBatchWithoutLag() {
+        when(contributionService.processBatch(any())).thenThrow(new JackpotNotFoundException(jackpotId));
+
+        assertThatThrownBy(() -> consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment))
+                .isInstanceOf(JackpotNotFoundException.class);
+
+        Timer consume = meterRegistry.find("jackpot.bets.consume").tag("outcome", "failure").timer();
+        assertThat(consume).isNotNull();
+        assertThat(consume.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("jackpot.bets.lag").timer()).isNull();
     }
 
     @Test
@@ -229,11 +272,26 @@ class KafkaBetConsumerTest {
                 .build();
 
         when(contributionService.processBatch(any())).thenReturn(List.of(contribution));
-        when(betRepository.findById(betId)).thenReturn(Optional.of(betEntity));
-        when(betRepository.save(any())).thenReturn(betEntity);
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(1);
+
+        consumer.consumeBets(List.of(bet), List.of(0), timestamps(1), acknowledgment);
+
+        verify(acknowledgment).acknowledge();
+    }
 
-        consumer.consumeBets(List.of(bet), acknowledgment);
+    @Test
+    void consumeBets_accumulatorEnabled_assignsJackpotsToPartitions() {
+        when(poolAccumulator.isEnabled()).thenReturn(true);
+        when(contributionService.processBatch(any())).thenReturn(List.of());
+        when(betRepository.updateStatusByIdIn(any(), any(), any())).thenReturn(1);
+
+        consumer.consumeBets(List.of(bet), List.of(7), timestamps(1), acknowledgment);
 
+        verify(poolAccumulator).assignPartition(jackpotId, 7);
         verify(acknowledgment).acknowledge();
     }
+
+    private static List<Long> timestamps(int size) {
+        return Collections.nCopies(size, System.currentTimeMillis());
+    }
 }
@@ -0,0 +1,226 @@
+package com.sporty.jackpot.repository;
+
+import com.sporty.jackpot.dto.ContributionHistoryDto;
+import com.sporty.jackpot.dto.HistoryPage;
+import com.sporty.jackpot.entity.Bet;
+import com.sporty.jackpot.entity.BetOutboxEntry;
+import com.sporty.jackpot.entity.BetStatus;
+import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.JackpotContribution;
+import com.sporty.jackpot.entity.JackpotReward;
+import com.sporty.jackpot.entity.RandomSourceType;
+import com.sporty.jackpot.entity.RewardType;
+import com.sporty.jackpot.service.ContributionLedgerService;
+import com.sporty.jackpot.service.UserHistoryService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@EmbeddedKafka(partitions = 1, topics = {"jackpot-bets"})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "spring.datasource.url=jdbc:h2:mem:pgschema;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.flyway.enabled=true",
+    "jackpot.datasource.pool.auto-size=true",
+    "jackpot.kafka.consumer.concurrency=4",
+    "jackpot.datasource.pool.extra-connections=3"
+})
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private BetRepository betRepository;
+
+    @Autowired
+    private BetOutboxRepository outboxRepository;
+
+    @Autowired
+    private JackpotContributionRepository contributionRepository;
+
+    @Autowired
+    private JackpotRewardRepository rewardRepository;
+
+    @Autowired
+    private JackpotContributionRollupRepository rollupRepository;
+
+    @Autowired
+    private ContributionLedgerService ledgerService;
+
+    @Autowired
+    private UserHistoryService userHistoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void migrationsAreApplied() {
+        assertThat(flyway.info().applied()).isNotEmpty();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void connectionPool_isSizedFromConsumerConcurrency() {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        assertThat(((HikariDataSource) dataSource).getMaximumPoolSize()).isEqualTo(7);
+    }
+
+    @Test
+    void entitiesRoundTripThroughMigratedSchema() {
+        Jackpot jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Migrated Jackpot")
+                .initialPoolValue(BigDecimal.valueOf(1000))
+                .currentPoolValue(BigDecimal.valueOf(1000))
+                .contributionType(ContributionType.VARIABLE)
+                .contributionPercentage(new BigDecimal("0.0500"))
+                .rewardType(RewardType.VARIABLE)
+                .rewardChancePercentage(new BigDecimal("0.0100"))
+                .maxPoolLimit(BigDecimal.valueOf(100000))
+                .randomSource(RandomSourceType.SPLITTABLE)
+                .build());
+        UUID betId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        betRepository.save(Bet.builder()
+                .id(betId)
+                .userId(userId)
+                .jackpotId(jackpot.getId())
+                .betAmount(BigDecimal.valueOf(100))
+                .status(BetStatus.PENDING)
+                .build());
+        outboxRepository.save(BetOutboxEntry.builder()
+                .betId(betId)
+                .userId(userId)
+                .jackpotId(jackpot.getId())
+                .betAmount(BigDecimal.valueOf(100))
+                .build());
+        contributionRepository.save(JackpotContribution.builder()
+                .betId(betId)
+                .userId(userId)
+                .jackpotId(jackpot.getId())
+                .stakeAmount(BigDecimal.valueOf(100))
+                .contributionAmount(new BigDecimal("5.0000"))
+                .currentJackpotAmount(new BigDecimal("1005.0000"))
+                .build());
+        rewardRepository.save(reward(betId, userId, jackpot.getId()));
+
+        assertThat(jackpotRepository.findById(jackpot.getId()))
+                .hasValueSatisfying(j -> assertThat(j.getRandomSource()).isEqualTo(RandomSourceType.SPLITTABLE));
+        assertThat(betRepository.findById(betId))
+                .hasValueSatisfying(b -> assertThat(b.getStatus()).isEqualTo(BetStatus.PENDING));
+        assertThat(jackpotRepository.findDtoById(jackpot.getId()))
+                .hasValueSatisfying(dto -> assertThat(dto.getName()).isEqualTo("Migrated Jackpot"));
+        assertThat(betRepository.findStatusById(betId)).contains(BetStatus.PENDING);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+        assertThat(contributionRepository.existsByBetId(betId)).isTrue();
+        assertThat(rewardRepository.findByBetId(betId)).isPresent();
+
+        BigDecimal lockedPoolValue = new TransactionTemplate(transactionManager)
+                .execute(tx -> jackpotRepository.findPoolValueForUpdate(jackpot.getId()).orElseThrow());
+        assertThat(lockedPoolValue).isEqualByComparingTo(BigDecimal.valueOf(1000));
+    }
+
+    @Test
+    void ledgerRollup_compactsContributionsIntoDailyTotals() {
+        UUID jackpotId = UUID.randomUUID();
+        contributionRepository.save(contribution(jackpotId, "100", "5"));
+        contributionRepository.save(contribution(jackpotId, "200", "10"));
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        int days = ledgerService.rollUpBefore(today.plusDays(1));
+
+        assertThat(days).isPositive();
+        assertThat(contributionRepository.sumContributionAmountSince(jackpotId, Instant.EPOCH)).isEqualByComparingTo("0");
+        assertThat(rollupRepository.findByJackpotIdAndContributionDateBetweenOrderByContributionDate(
+                jackpotId, today, today))
+                .singleElement()
+                .satisfies(rollup -> {
+                    assertThat(rollup.getContributionCount()).isEqualTo(2);
+                    assertThat(rollup.getStakeAmount()).isEqualByComparingTo("300");
+                    assertThat(rollup.getContributionAmount()).isEqualByComparingTo("15");
+                });
+    }
+
+    @Test
+    void userContributionHistory_pagesNewestFirst() {
+        UUID userId = UUID.randomUUID();
+        UUID jackpotId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            JackpotContribution contribution = contribution(jackpotId, "100", "5");
+            contribution.setUserId(userId);
+            contributionRepository.save(contribution);
+        }
+
+        HistoryPage<ContributionHistoryDto> first = userHistoryService.getContributions(userId, null, 2);
+        HistoryPage<ContributionHistoryDto> second =
+                userHistoryService.getContributions(userId, first.nextCursor(), 2);
+
+        assertThat(first.items()).hasSize(2);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+        assertThat(second.items().getFirst().createdAt()).isBeforeOrEqualTo(first.items().getLast().createdAt());
+        assertThat(second.items()).doesNotContainAnyElementsOf(first.items());
+    }
+
+    @Test
+    void secondRewardForSameBet_isRejected() {
+        UUID betId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID jackpotId = UUID.randomUUID();
+        rewardRepository.saveAndFlush(reward(betId, userId, jackpotId));
+
+        assertThatThrownBy(() -> rewardRepository.saveAndFlush(reward(betId, userId, jackpotId)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static JackpotContribution contribution(UUID jackpotId, String stake, String contribution) {
+        return JackpotContribution.builder()
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(jackpotId)
+                .stakeAmount(new BigDecimal(stake))
+                .contributionAmount(new BigDecimal(contribution))
+                .currentJackpotAmount(BigDecimal.valueOf(1000))
+                .build();
+    }
+
+    private static JackpotReward reward(UUID betId, UUID userId, UUID jackpotId) {
+        return JackpotReward.builder()
+                .betId(betId)
+                .userId(userId)
+                .jackpotId(jackpotId)
+                .rewardAmount(BigDecimal.valueOf(1005))
+                .build();
+    }
+}
@@ -3,8 +3,10 @@ package com.sporty.jackpot.service;
 import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.dto.BetRequest;
 import com.sporty.jackpot.entity.Bet;
+import com.sporty.jackpot.entity.BetOutboxEntry;
 import com.sporty.jackpot.entity.BetStatus;
 import com.sporty.jackpot.exception.BetNotFoundException;
+import com.sporty.jackpot.repository.BetOutboxRepository;
 import com.sporty.jackpot.repository.BetRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,16 +14,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +41,15 @@ class BetServiceTest {
     @Mock
     private BetRepository betRepository;
 
+    @Mock
+    private BetOutboxRepository outboxRepository;
+
+    @Spy
+    private BetStatusCache statusCache = statusCache(false);
+
+    @Mock
+    private BetStatusNotifier statusNotifier;
+
     @InjectMocks
     private BetService betService;
 
@@ -102,23 +121,63 @@ class BetServiceTest {
     }
 
     @Test
-    void getBet_existingBet_returnsBet() {
-        when(betRepository.findById(betId)).thenReturn(Optional.of(bet));
+    void getBetStatus_existingBet_returnsStatus() {
+        when(betRepository.findStatusById(betId)).thenReturn(Optional.of(BetStatus.PROCESSED));
 
-        Bet result = betService.getBet(betId);
+        BetStatus result = betService.getBetStatus(betId);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(betId);
+        assertThat(result).isEqualTo(BetStatus.PROCESSED);
+        verify(betRepository, never()).findById(any());
     }
 
     @Test
-    void getBet_nonExistingBet_throwsException() {
-        when(betRepository.findById(betId)).thenReturn(Optional.empty());
+    void getBetStatus_nonExistingBet_throwsException() {
+        when(betRepository.findStatusById(betId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> betService.getBet(betId))
+        assertThatThrownBy(() -> betService.getBetStatus(betId))
                 .isInstanceOf(BetNotFoundException.class);
     }
 
+    @Test
+    void getBetStatus_cacheEnabled_servesRepeatedPollsFromCache() {
+        BetService cachedService = new BetService(betRepository, outboxRepository, statusCache(true),
+                statusNotifier);
+        when(betRepository.findStatusById(betId)).thenReturn(Optional.of(BetStatus.PUBLISHED));
+
+        assertThat(cachedService.getBetStatus(betId)).isEqualTo(BetStatus.PUBLISHED);
+        assertThat(cachedService.getBetStatus(betId)).isEqualTo(BetStatus.PUBLISHED);
+
+        verify(betRepository, times(1)).findStatusById(betId);
+    }
+
+    @Test
+    void getBetStatus_cacheEnabled_reflectsUpdatedStatus() {
+        BetService cachedService = new BetService(betRepository, outboxRepository, statusCache(true),
+                statusNotifier);
+        when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(betRepository.findById(betId)).thenReturn(Optional.of(bet));
+
+        cachedService.createBet(betId, request);
+        cachedService.updateStatus(betId, BetStatus.PUBLISHED);
+
+        assertThat(cachedService.getBetStatus(betId)).isEqualTo(BetStatus.PUBLISHED);
+        verify(betRepository, never()).findStatusById(any());
+    }
+
+    @Test
+    void getBetStatus_cacheEnabled_transitionNotApplied_keepsCachedStatus() {
+        BetService cachedService = new BetService(betRepository, outboxRepository, statusCache(true),
+                statusNotifier);
+        when(betRepository.findStatusById(betId)).thenReturn(Optional.of(BetStatus.PROCESSED));
+        when(betRepository.updateStatusIfCurrent(eq(betId), eq(BetStatus.PENDING), eq(BetStatus.FAILED), any()))
+                .thenReturn(0);
+
+        cachedService.getBetStatus(betId);
+        cachedService.transitionStatus(betId, BetStatus.PENDING, BetStatus.FAILED);
+
+        assertThat(cachedService.getBetStatus(betId)).isEqualTo(BetStatus.PROCESSED);
+    }
+
     @Test
     void toMessage_bet_returnsBetMessage() {
         BetMessage message = betService.toMessage(bet);
@@ -259,14 +318,15 @@ class BetServiceTest {
         assertThat(message.getUserId()).isEqualTo(userId);
         assertThat(message.getJackpotId()).isEqualTo(jackpotId);
         assertThat(message.getBetAmount()).isEqualByComparingTo(new BigDecimal("12345.6789"));
+        assertThat(message.getCreatedAtMillis()).isEqualTo(fullBet.getCreatedAt().toEpochMilli());
     }
 
     @Test
-    void getBet_exceptionMessageContainsBetId() {
+    void getBetStatus_exceptionMessageContainsBetId() {
         UUID missingBetId = UUID.randomUUID();
-        when(betRepository.findById(missingBetId)).thenReturn(Optional.empty());
+        when(betRepository.findStatusById(missingBetId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> betService.getBet(missingBetId))
+        assertThatThrownBy(() -> betService.getBetStatus(missingBetId))
                 .isInstanceOf(BetNotFoundException.class)
                 .hasMessageContaining(missingBetId.toString());
     }
@@ -280,4 +340,151 @@ class BetServiceTest {
                 .isInstanceOf(BetNotFoundException.class)
                 .hasMessageContaining(missingBetId.toString());
     }
+
+    @Test
+    void transitionStatus_betInExpectedStatus_updatesAndReturnsTrue() {
+        when(betRepository.updateStatusIfCurrent(eq(betId), eq(BetStatus.PENDING), eq(BetStatus.PUBLISHED), any()))
+                .thenReturn(1);
+
+        boolean result = betService.transitionStatus(betId, BetStatus.PENDING, BetStatus.PUBLISHED);
+
+        assertThat(result).isTrue();
+        verify(statusNotifier).publish(betId, BetStatus.PUBLISHED);
+    }
+
+    @Test
+    void transitionStatus_betAlreadyMovedOn_returnsFalse() {
+        when(betRepository.updateStatusIfCurrent(eq(betId), eq(BetStatus.PENDING), eq(BetStatus.PUBLISHED), any()))
+                .thenReturn(0);
+
+        boolean result = betService.transitionStatus(betId, BetStatus.PENDING, BetStatus.PUBLISHED);
+
+        assertThat(result).isFalse();
+        verify(statusNotifier, never()).publish(any(), any());
+    }
+
+    @Test
+    void createBet_outboxDisabled_doesNotWriteOutbox() {
+        when(betRepository.save(any(Bet.class))).thenReturn(bet);
+
+        betService.createBet(betId, request);
+
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void createBet_outboxEnabled_writesOutboxEntryForBet() {
+        ReflectionTestUtils.setField(betService, "outboxEnabled", true);
+        when(betRepository.save(any(Bet.class))).thenReturn(bet);
+
+        betService.createBet(betId, request);
+
+        ArgumentCaptor<BetOutboxEntry> entryCaptor = ArgumentCaptor.forClass(BetOutboxEntry.class);
+        verify(outboxRepository).save(entryCaptor.capture());
+
+        BetOutboxEntry entry = entryCaptor.getValue();
+        assertThat(entry.getBetId()).isEqualTo(betId);
+        assertThat(entry.getUserId()).isEqualTo(userId);
+        assertThat(entry.getJackpotId()).isEqualTo(jackpotId);
+        assertThat(entry.getBetAmount()).isEqualByComparingTo(BigDecimal.valueOf(100));
+    }
+
+    @Test
+    void createBets_multipleRequests_savesAllInOneCallWithDistinctIds() {
+        BetRequest other = BetRequest.builder()
+                .userId(UUID.randomUUID())
+                .jackpotId(jackpotId)
+                .betAmount(BigDecimal.valueOf(50))
+                .build();
+        when(betRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Bet> result = betService.createBets(List.of(request, other));
+
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(Bet::getStatus).containsOnly(BetStatus.PENDING);
+        assertThat(result.get(0).getId()).isNotEqualTo(result.get(1).getId());
+        assertThat(result.get(1).getBetAmount()).isEqualByComparingTo(BigDecimal.valueOf(50));
+        verify(betRepository).saveAll(anyList());
+        verify(outboxRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createBets_outboxEnabled_writesOneOutboxEntryPerBet() {
+        ReflectionTestUtils.setField(betService, "outboxEnabled", true);
+        when(betRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Bet> result = betService.createBets(List.of(request, request));
+
+        ArgumentCaptor<List<BetOutboxEntry>> entriesCaptor = ArgumentCaptor.captor();
+        verify(outboxRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+                .extracting(BetOutboxEntry::getBetId)
+                .containsExactly(result.get(0).getId(), result.get(1).getId());
+    }
+
+    @Test
+    void transitionStatuses_updatesMatchingBetsInOneStatement() {
+        List<UUID> betIds = List.of(betId, UUID.randomUUID());
+        when(betRepository.updateStatusByIdInIfCurrent(
+                eq(betIds), eq(BetStatus.PENDING), eq(BetStatus.PUBLISHED), any())).thenReturn(2);
+
+        int updated = betService.transitionStatuses(betIds, BetStatus.PENDING, BetStatus.PUBLISHED);
+
+        assertThat(updated).isEqualTo(2);
+    }
+
+    @Test
+    void transitionStatuses_someBetsSkipped_recordsOnlyBetsInNewStatus() {
+        UUID processedBetId = UUID.randomUUID();
+        List<UUID> betIds = List.of(betId, processedBetId);
+        BetStatusCache cache = statusCache(true);
+        BetService cachedService = new BetService(betRepository, outboxRepository, cache, statusNotifier);
+        when(betRepository.updateStatusByIdInIfCurrent(
+                eq(betIds), eq(BetStatus.PENDING), eq(BetStatus.PUBLISHED), any())).thenReturn(1);
+        when(betRepository.findIdsByIdInAndStatus(betIds, BetStatus.PUBLISHED)).thenReturn(List.of(betId));
+
+        int updated = cachedService.transitionStatuses(betIds, BetStatus.PENDING, BetStatus.PUBLISHED);
+
+        assertThat(updated).isEqualTo(1);
+        verify(statusNotifier).publishAll(List.of(betId), BetStatus.PUBLISHED);
+        assertThat(cache.get(betId, id -> BetStatus.PENDING)).isEqualTo(BetStatus.PUBLISHED);
+        assertThat(cache.get(processedBetId, id -> BetStatus.PROCESSED)).isEqualTo(BetStatus.PROCESSED);
+    }
+
+    @Test
+    void transitionStatuses_noBets_skipsUpdate() {
+        int updated = betService.transitionStatuses(List.of(), BetStatus.PENDING, BetStatus.PUBLISHED);
+
+        assertThat(updated).isZero();
+        verify(betRepository, never()).updateStatusByIdInIfCurrent(any(), any(), any(), any());
+    }
+
+    @Test
+    void markFailed_marksBetsAndNotifies() {
+        List<UUID> betIds = List.of(betId);
+        when(betRepository.updateStatusByIdInUnless(
+                eq(betIds), eq(BetStatus.PROCESSED), eq(BetStatus.FAILED), any())).thenReturn(1);
+
+        int updated = betService.markFailed(betIds);
+
+        assertThat(updated).isEqualTo(1);
+        verify(statusNotifier).publishAll(betIds, BetStatus.FAILED);
+    }
+
+    @Test
+    void markFailed_alreadyProcessedBet_keepsItsStatus() {
+        UUID processedBetId = UUID.randomUUID();
+        List<UUID> betIds = List.of(betId, processedBetId);
+        when(betRepository.updateStatusByIdInUnless(
+                eq(betIds), eq(BetStatus.PROCESSED), eq(BetStatus.FAILED), any())).thenReturn(1);
+        when(betRepository.findIdsByIdInAndStatus(betIds, BetStatus.FAILED)).thenReturn(List.of(betId));
+
+        betService.markFailed(betIds);
+
+        verify(statusNotifier).publishAll(List.of(betId), BetStatus.FAILED);
+    }
+
+    private static BetStatusCache statusCache(boolean enabled) {
+        return new BetStatusCache(enabled, 1000, Duration.ofMinutes(10), Duration.ofMinutes(10));
+    }
 }
@@ -0,0 +1,180 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.BetStatus;
+import com.sporty.jackpot.exception.BetNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetStatusCacheTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 500;
+
+    private final BetStatusCache cache = new BetStatusCache(true, 10_000, Duration.ofMinutes(10),
+            Duration.ofMinutes(10));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_cachesLoadedStatus() {
+        UUID betId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(betId, id -> {
+            loads.incrementAndGet();
+            return BetStatus.PUBLISHED;
+        });
+        BetStatus status = cache.get(betId, id -> {
+            loads.incrementAndGet();
+            return BetStatus.PENDING;
+        });
+
+        assertThat(status).isEqualTo(BetStatus.PUBLISHED);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_unknownBet_cachesNothing() {
+        UUID betId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> cache.get(betId, id -> {
+            throw new BetNotFoundException(id);
+        })).isInstanceOf(BetNotFoundException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_disabled_alwaysLoads() {
+        BetStatusCache disabled = new BetStatusCache(false, 10, Duration.ofMinutes(10), Duration.ofMinutes(10));
+        UUID betId = UUID.randomUUID();
+        disabled.record(betId, BetStatus.PROCESSED);
+
+        assertThat(disabled.get(betId, id -> BetStatus.PUBLISHED)).isEqualTo(BetStatus.PUBLISHED);
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    void record_neverMovesStatusBackwards() {
+        UUID betId = UUID.randomUUID();
+
+        cache.record(betId, BetStatus.PROCESSED);
+        cache.record(betId, BetStatus.PUBLISHED);
+
+        assertThat(cache.get(betId, id -> BetStatus.PENDING)).isEqualTo(BetStatus.PROCESSED);
+    }
+
+    @Test
+    void record_failedBetProcessedOnRetry_becomesProcessed() {
+        UUID betId = UUID.randomUUID();
+
+        cache.record(betId, BetStatus.FAILED);
+        cache.record(betId, BetStatus.PROCESSED);
+
+        assertThat(cache.get(betId, id -> BetStatus.PENDING)).isEqualTo(BetStatus.PROCESSED);
+    }
+
+    @Test
+    void record_insideTransaction_appliesOnlyAfterCommit() {
+        UUID committed = UUID.randomUUID();
+        UUID rolledBack = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.record(committed, BetStatus.PUBLISHED);
+        assertThat(cache.size()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.record(rolledBack, BetStatus.PUBLISHED);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(cache.get(committed, id -> BetStatus.PENDING)).isEqualTo(BetStatus.PUBLISHED);
+        assertThat(cache.get(rolledBack, id -> BetStatus.PENDING)).isEqualTo(BetStatus.PENDING);
+    }
+
+    @Test
+    void concurrentUpdates_convergeOnLatestStatus() throws Exception {
+        List<BetStatus> lifecycle = List.of(BetStatus.PENDING, BetStatus.PUBLISHED, BetStatus.PROCESSING,
+                BetStatus.FAILED, BetStatus.PROCESSED);
+        List<UUID> betIds = IntStream.range(0, ROUNDS).mapToObj(i -> UUID.randomUUID()).toList();
+
+        runConcurrently(thread -> {
+            List<BetStatus> updates = new ArrayList<>(lifecycle);
+            for (UUID betId : betIds) {
+                Collections.shuffle(updates);
+                updates.forEach(status -> cache.record(betId, status));
+            }
+        });
+
+        for (UUID betId : betIds) {
+            assertThat(cache.get(betId, id -> BetStatus.PENDING)).isEqualTo(BetStatus.PROCESSED);
+        }
+    }
+
+    @Test
+    void concurrentBatchUpdatesAndStaleLoads_neverHideProcessedStatus() throws Exception {
+        List<UUID> betIds = IntStream.range(0, ROUNDS).mapToObj(i -> UUID.randomUUID()).toList();
+
+        runConcurrently(thread -> {
+            if (thread % 2 == 0) {
+                cache.recordAll(betIds, BetStatus.PROCESSED);
+            } else {
+                betIds.forEach(betId -> cache.get(betId, id -> BetStatus.PUBLISHED));
+                cache.recordAll(betIds, BetStatus.PUBLISHED);
+            }
+        });
+
+        for (UUID betId : betIds) {
+            assertThat(cache.get(betId, id -> BetStatus.PENDING)).isEqualTo(BetStatus.PROCESSED);
+        }
+    }
+
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
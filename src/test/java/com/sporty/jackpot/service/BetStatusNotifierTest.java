@@ -0,0 +1,121 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.BetStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BetStatusNotifierTest {
+
+    private final BetStatusNotifier notifier = new BetStatusNotifier(new SyncTaskExecutor());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_notifiesSubscribersOfThatBetOnly() {
+        UUID betId = UUID.randomUUID();
+        List<BetStatus> received = new CopyOnWriteArrayList<>();
+        List<BetStatus> other = new CopyOnWriteArrayList<>();
+        notifier.subscribe(betId, received::add);
+        notifier.subscribe(UUID.randomUUID(), other::add);
+
+        notifier.publish(betId, BetStatus.PROCESSING);
+        notifier.publishAll(List.of(betId), BetStatus.PROCESSED);
+
+        assertThat(received).containsExactly(BetStatus.PROCESSING, BetStatus.PROCESSED);
+        assertThat(other).isEmpty();
+    }
+
+    @Test
+    void unsubscribe_stopsNotificationsAndReleasesBet() {
+        UUID betId = UUID.randomUUID();
+        List<BetStatus> received = new CopyOnWriteArrayList<>();
+        BetStatusNotifier.Subscription subscription = notifier.subscribe(betId, received::add);
+
+        subscription.cancel();
+        notifier.publish(betId, BetStatus.PROCESSED);
+
+        assertThat(received).isEmpty();
+        assertThat(notifier.subscriberCount()).isZero();
+    }
+
+    @Test
+    void publish_failingSubscriber_doesNotStopOthers() {
+        UUID betId = UUID.randomUUID();
+        List<BetStatus> received = new CopyOnWriteArrayList<>();
+        notifier.subscribe(betId, status -> {
+            throw new IllegalStateException("closed");
+        });
+        notifier.subscribe(betId, received::add);
+
+        notifier.publish(betId, BetStatus.FAILED);
+
+        assertThat(received).containsExactly(BetStatus.FAILED);
+    }
+
+    @Test
+    void deliver_sendsStatusesOneAtATimeInOrder() {
+        List<Runnable> tasks = new ArrayList<>();
+        BetStatusNotifier queuedNotifier = new BetStatusNotifier(tasks::add);
+        UUID betId = UUID.randomUUID();
+        List<BetStatus> received = new CopyOnWriteArrayList<>();
+        BetStatusNotifier.Subscription subscription = queuedNotifier.subscribe(betId, received::add);
+
+        subscription.deliver(BetStatus.PUBLISHED);
+        queuedNotifier.publish(betId, BetStatus.PROCESSING);
+        queuedNotifier.publish(betId, BetStatus.PROCESSED);
+
+        assertThat(tasks).hasSize(1);
+        tasks.getFirst().run();
+        assertThat(received).containsExactly(BetStatus.PUBLISHED, BetStatus.PROCESSING, BetStatus.PROCESSED);
+    }
+
+    @Test
+    void deliver_staleStatusAfterNewerOne_isDropped() {
+        UUID betId = UUID.randomUUID();
+        List<BetStatus> received = new CopyOnWriteArrayList<>();
+        BetStatusNotifier.Subscription subscription = notifier.subscribe(betId, received::add);
+
+        notifier.publish(betId, BetStatus.PROCESSING);
+        subscription.deliver(BetStatus.PUBLISHED);
+        subscription.deliver(BetStatus.PROCESSING);
+        notifier.publish(betId, BetStatus.PROCESSED);
+
+        assertThat(received).containsExactly(BetStatus.PROCESSING, BetStatus.PROCESSED);
+    }
+
+    @Test
+    void publish_insideTransaction_notifiesOnlyAfterCommit() {
+        UUID betId = UUID.randomUUID();
+        List<BetStatus> received = new CopyOnWriteArrayList<>();
+        notifier.subscribe(betId, received::add);
+
+        TransactionSynchronizationManager.initSynchronization();
+        notifier.publishAll(List.of(betId), BetStatus.PROCESSED);
+        assertThat(received).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        notifier.publish(betId, BetStatus.FAILED);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(received).containsExactly(BetStatus.PROCESSED);
+    }
+}
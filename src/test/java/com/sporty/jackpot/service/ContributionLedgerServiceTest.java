@@ -0,0 +1,235 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.JackpotContribution;
+import com.sporty.jackpot.entity.JackpotContributionRollup;
+import com.sporty.jackpot.repository.ContributedBetRepository;
+import com.sporty.jackpot.repository.ContributionPartitionRepository;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotContributionRepository.JackpotTotals;
+import com.sporty.jackpot.repository.JackpotContributionRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContributionLedgerServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 10);
+    private static final LocalDate CUTOFF = LocalDate.of(2025, 1, 11);
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotContributionRollupRepository rollupRepository;
+
+    @Mock
+    private ContributionPartitionRepository partitionRepository;
+
+    @Mock
+    private ContributedBetRepository contributedBetRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<List<JackpotContributionRollup>> rollupCaptor = ArgumentCaptor.forClass(List.class);
+
+    private ContributionLedgerService ledgerService;
+    private UUID jackpotId;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new ContributionLedgerService(contributionRepository, rollupRepository,
+                partitionRepository, contributedBetRepository, transactionManager);
+        ReflectionTestUtils.setField(ledgerService, "precreateDays", 2);
+        jackpotId = UUID.randomUUID();
+    }
+
+    @Test
+    void rollUpBefore_aggregatesAndDeletesDaysOlderThanCutoff() {
+        when(contributionRepository.findFirstByOrderByCreatedAtAsc())
+                .thenReturn(contributionAt("2025-01-10T13:45:00Z"), contributionAt("2025-01-11T00:00:00Z"));
+        when(contributionRepository.sumByJackpotCreatedBetween(
+                Instant.parse("2025-01-10T00:00:00Z"), Instant.parse("2025-01-11T00:00:00Z")))
+                .thenReturn(List.of(totals(jackpotId, 3, "300", "15")));
+        when(rollupRepository.findByContributionDate(DAY)).thenReturn(List.of());
+
+        int days = ledgerService.rollUpBefore(CUTOFF);
+
+        assertThat(days).isEqualTo(1);
+        verify(rollupRepository).saveAll(rollupCaptor.capture());
+        JackpotContributionRollup rollup = rollupCaptor.getValue().getFirst();
+        assertThat(rollup.getJackpotId()).isEqualTo(jackpotId);
+        assertThat(rollup.getContributionDate()).isEqualTo(DAY);
+        assertThat(rollup.getContributionCount()).isEqualTo(3);
+        assertThat(rollup.getStakeAmount()).isEqualByComparingTo("300");
+        assertThat(rollup.getContributionAmount()).isEqualByComparingTo("15");
+        verify(contributionRepository).deleteCreatedBetween(
+                Instant.parse("2025-01-10T00:00:00Z"), Instant.parse("2025-01-11T00:00:00Z"));
+        verify(partitionRepository, never()).dropPartition(any());
+        verify(contributedBetRepository, never()).deleteCreatedBefore(any());
+    }
+
+    @Test
+    void rollUpBefore_mergesIntoExistingRollup() {
+        JackpotContributionRollup existing = JackpotContributionRollup.builder()
+                .jackpotId(jackpotId)
+                .contributionDate(DAY)
+                .contributionCount(2)
+                .stakeAmount(new BigDecimal("200"))
+                .contributionAmount(new BigDecimal("10"))
+                .build();
+        when(contributionRepository.findFirstByOrderByCreatedAtAsc())
+                .thenReturn(contributionAt("2025-01-10T08:00:00Z"), Optional.empty());
+        when(contributionRepository.sumByJackpotCreatedBetween(any(), any()))
+                .thenReturn(List.of(totals(jackpotId, 1, "100", "5")));
+        when(rollupRepository.findByContributionDate(DAY)).thenReturn(List.of(existing));
+
+        ledgerService.rollUpBefore(CUTOFF);
+
+        verify(rollupRepository).saveAll(rollupCaptor.capture());
+        assertThat(rollupCaptor.getValue()).containsExactly(existing);
+        assertThat(existing.getContributionCount()).isEqualTo(3);
+        assertThat(existing.getStakeAmount()).isEqualByComparingTo("300");
+        assertThat(existing.getContributionAmount()).isEqualByComparingTo("15");
+    }
+
+    @Test
+    void rollUpBefore_nothingOlderThanCutoff_keepsLedger() {
+        when(contributionRepository.findFirstByOrderByCreatedAtAsc())
+                .thenReturn(contributionAt("2025-01-11T09:00:00Z"));
+
+        int days = ledgerService.rollUpBefore(CUTOFF);
+
+        assertThat(days).isZero();
+        verify(contributionRepository, never()).deleteCreatedBetween(any(), any());
+        verify(rollupRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void rollUpBefore_partitioned_detachesRollsUpAndDropsExpiredPartitions() {
+        ReflectionTestUtils.setField(ledgerService, "partitioningEnabled", true);
+        LocalDate expired = LocalDate.of(2025, 1, 9);
+        when(partitionRepository.findPartitionDays()).thenReturn(List.of(expired, CUTOFF, CUTOFF.plusDays(1)));
+        when(partitionRepository.findDetachedPartitionDays()).thenReturn(List.of(expired, DAY));
+        when(partitionRepository.sumDetachedPartition(expired)).thenReturn(List.of(totals(jackpotId, 3, "300", "15")));
+        when(partitionRepository.sumDetachedPartition(DAY)).thenReturn(List.of());
+        when(rollupRepository.findByContributionDate(any())).thenReturn(List.of());
+        when(contributionRepository.findFirstByOrderByCreatedAtAsc()).thenReturn(Optional.empty());
+
+        int days = ledgerService.rollUpBefore(CUTOFF);
+
+        assertThat(days).isEqualTo(2);
+        verify(partitionRepository).detachPartition(expired);
+        verify(partitionRepository, never()).detachPartition(CUTOFF);
+        verify(partitionRepository, never()).detachPartition(CUTOFF.plusDays(1));
+        InOrder inOrder = inOrder(rollupRepository, partitionRepository);
+        inOrder.verify(rollupRepository).saveAll(rollupCaptor.capture());
+        inOrder.verify(partitionRepository).dropPartition(expired);
+        assertThat(rollupCaptor.getValue().getFirst().getContributionDate()).isEqualTo(expired);
+        verify(partitionRepository).dropPartition(DAY);
+        verify(contributionRepository, never()).deleteCreatedBetween(any(), any());
+    }
+
+    @Test
+    void createPartitions_precreatesUpcomingDays() {
+        ledgerService.createPartitions(DAY);
+
+        verify(partitionRepository).createPartition(DAY);
+        verify(partitionRepository).createPartition(DAY.plusDays(1));
+        verify(partitionRepository).createPartition(DAY.plusDays(2));
+        verify(partitionRepository, never()).createPartition(DAY.plusDays(3));
+    }
+
+    @Test
+    void createPartitions_failingDay_stillCreatesLaterDays() {
+        doThrow(new IllegalStateException("partition overlaps")).when(partitionRepository).createPartition(DAY);
+
+        ledgerService.createPartitions(DAY);
+
+        verify(partitionRepository).createPartition(DAY.plusDays(1));
+        verify(partitionRepository).createPartition(DAY.plusDays(2));
+    }
+
+    @Test
+    void runMaintenance_retentionDisabled_keepsLedger() {
+        ledgerService.runMaintenance();
+
+        verify(contributionRepository, never()).findFirstByOrderByCreatedAtAsc();
+        verify(partitionRepository, never()).createPartition(any());
+    }
+
+    @Test
+    void pruneContributedBets_deletesIdsOlderThanIdempotencyWindow() {
+        ReflectionTestUtils.setField(ledgerService, "idempotentWindow", Duration.ofDays(7));
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+
+        Instant before = Instant.now().minus(Duration.ofDays(7));
+        ledgerService.pruneContributedBets();
+        Instant after = Instant.now().minus(Duration.ofDays(7));
+
+        verify(contributedBetRepository).deleteCreatedBefore(cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(before, after);
+    }
+
+    @Test
+    void pruneContributedBets_failure_isLoggedAndSwallowed() {
+        ReflectionTestUtils.setField(ledgerService, "idempotentWindow", Duration.ofDays(7));
+        when(contributedBetRepository.deleteCreatedBefore(any())).thenThrow(new RuntimeException("DB down"));
+
+        ledgerService.pruneContributedBets();
+
+        verify(contributedBetRepository).deleteCreatedBefore(any());
+    }
+
+    private static Optional<JackpotContribution> contributionAt(String createdAt) {
+        return Optional.of(JackpotContribution.builder().createdAt(Instant.parse(createdAt)).build());
+    }
+
+    private static JackpotTotals totals(UUID jackpotId, long count, String stake, String contribution) {
+        return new JackpotTotals() {
+            @Override
+            public UUID getJackpotId() {
+                return jackpotId;
+            }
+
+            @Override
+            public long getContributionCount() {
+                return count;
+            }
+
+            @Override
+            public BigDecimal getStakeAmount() {
+                return new BigDecimal(stake);
+            }
+
+            @Override
+            public BigDecimal getContributionAmount() {
+                return new BigDecimal(contribution);
+            }
+        };
+    }
+}
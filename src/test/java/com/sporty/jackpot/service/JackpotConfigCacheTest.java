@@ -0,0 +1,122 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RewardType;
+import com.sporty.jackpot.exception.JackpotNotFoundException;
+import com.sporty.jackpot.repository.JackpotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class JackpotConfigCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class CacheTestConfig {
+
+        @Bean
+        JackpotRepository jackpotRepository() {
+            return Mockito.mock(JackpotRepository.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(JackpotConfigCache.CACHE_NAME);
+        }
+
+        @Bean
+        JackpotConfigCache jackpotConfigCache(JackpotRepository jackpotRepository) {
+            return new JackpotConfigCache(jackpotRepository);
+        }
+    }
+
+    @Autowired
+    private JackpotConfigCache configCache;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID jackpotId;
+    private Jackpot jackpot;
+
+    @BeforeEach
+    void setUp() {
+        reset(jackpotRepository);
+        cacheManager.getCache(JackpotConfigCache.CACHE_NAME).clear();
+
+        jackpotId = UUID.randomUUID();
+        jackpot = Jackpot.builder()
+                .id(jackpotId)
+                .name("Test Jackpot")
+                .initialPoolValue(BigDecimal.valueOf(1000))
+                .currentPoolValue(BigDecimal.valueOf(1500))
+                .contributionType(ContributionType.FIXED)
+                .contributionPercentage(BigDecimal.valueOf(0.05))
+                .rewardType(RewardType.FIXED)
+                .rewardChancePercentage(BigDecimal.valueOf(0.01))
+                .build();
+    }
+
+    @Test
+    void get_repeatedLookups_loadOnce() {
+        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+
+        JackpotConfig first = configCache.get(jackpotId);
+        JackpotConfig second = configCache.get(jackpotId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.contributionPercentage()).isEqualByComparingTo(BigDecimal.valueOf(0.05));
+        verify(jackpotRepository, times(1)).findById(jackpotId);
+    }
+
+    @Test
+    void put_primesCacheWithoutLoading() {
+        configCache.put(JackpotConfig.of(jackpot));
+
+        assertThat(configCache.get(jackpotId).name()).isEqualTo("Test Jackpot");
+        verify(jackpotRepository, never()).findById(jackpotId);
+    }
+
+    @Test
+    void get_unknownJackpot_throwsAndCachesNothing() {
+        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> configCache.get(jackpotId)).isInstanceOf(JackpotNotFoundException.class);
+        assertThatThrownBy(() -> configCache.get(jackpotId)).isInstanceOf(JackpotNotFoundException.class);
+
+        verify(jackpotRepository, times(2)).findById(jackpotId);
+    }
+
+    @Test
+    void toJackpot_usesLockedPoolValue() {
+        Jackpot working = JackpotConfig.of(jackpot).toJackpot(BigDecimal.valueOf(1750));
+
+        assertThat(working.getId()).isEqualTo(jackpotId);
+        assertThat(working.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1750));
+        assertThat(working.getRewardType()).isEqualTo(RewardType.FIXED);
+    }
+}
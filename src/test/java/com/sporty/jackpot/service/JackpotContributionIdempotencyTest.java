@@ -0,0 +1,107 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.dto.BetMessage;
+import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.JackpotContribution;
+import com.sporty.jackpot.entity.RewardType;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@EmbeddedKafka(partitions = 1, topics = {"jackpot-bets"})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "jackpot.contribution.idempotent.enabled=true"
+})
+class JackpotContributionIdempotencyTest {
+
+    @Autowired
+    private JackpotContributionService contributionService;
+
+    @Autowired
+    private JackpotRepository jackpotRepository;
+
+    @Autowired
+    private JackpotContributionRepository contributionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Jackpot jackpot;
+
+    @BeforeEach
+    void setUp() {
+        jackpot = jackpotRepository.save(Jackpot.builder()
+                .name("Redelivery Jackpot")
+                .initialPoolValue(BigDecimal.valueOf(1000))
+                .currentPoolValue(BigDecimal.valueOf(1000))
+                .contributionType(ContributionType.FIXED)
+                .contributionPercentage(new BigDecimal("0.0500"))
+                .rewardType(RewardType.FIXED)
+                .rewardChancePercentage(new BigDecimal("0.0100"))
+                .build());
+    }
+
+    @Test
+    void redeliveredBatch_contributesEachBetOnce() {
+        BetMessage first = betMessage();
+        BetMessage second = betMessage();
+
+        contributionService.processBatch(List.of(first));
+        List<JackpotContribution> redelivered = contributionService.processBatch(List.of(first, second, second));
+
+        assertThat(redelivered).extracting(JackpotContribution::getBetId).containsExactly(second.getBetId());
+        assertThat(contributionRepository.findByBetId(first.getBetId())).hasSize(1);
+        assertThat(contributionRepository.findByBetId(second.getBetId())).hasSize(1);
+        assertThat(contributedBetCount(first.getBetId())).isEqualTo(1);
+        assertThat(contributedBetCount(second.getBetId())).isEqualTo(1);
+        assertThat(poolValue()).isEqualByComparingTo("1010");
+    }
+
+    @Test
+    void redeliveryMissedByLedgerLookup_isRejectedByContributedBets() {
+        BetMessage bet = betMessage();
+        contributionService.processBatch(List.of(bet));
+        contributionRepository.deleteAll(contributionRepository.findByBetId(bet.getBetId()));
+
+        List<JackpotContribution> redelivered = contributionService.processBatch(List.of(bet));
+
+        assertThat(redelivered).isEmpty();
+        assertThat(contributionRepository.findByBetId(bet.getBetId())).isEmpty();
+        assertThat(poolValue()).isEqualByComparingTo("1005");
+    }
+
+    private BetMessage betMessage() {
+        return BetMessage.builder()
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(jackpot.getId())
+                .betAmount(BigDecimal.valueOf(100))
+                .build();
+    }
+
+    private BigDecimal poolValue() {
+        return jackpotRepository.findById(jackpot.getId()).orElseThrow().getCurrentPoolValue();
+    }
+
+    private int contributedBetCount(UUID betId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contributed_bets WHERE bet_id = ?",
+                Integer.class, betId);
+    }
+}
@@ -4,22 +4,38 @@ import com.sporty.jackpot.dto.BetMessage;
 import com.sporty.jackpot.entity.ContributionType;
 import com.sporty.jackpot.entity.Jackpot;
 import com.sporty.jackpot.entity.JackpotContribution;
+import com.sporty.jackpot.entity.JackpotReward;
+import com.sporty.jackpot.entity.RewardType;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
+import com.sporty.jackpot.repository.ContributedBetRepository;
 import com.sporty.jackpot.repository.JackpotContributionRepository;
 import com.sporty.jackpot.repository.JackpotRepository;
+import com.sporty.jackpot.repository.JackpotRewardRepository;
 import com.sporty.jackpot.strategy.contribution.ContributionStrategy;
 import com.sporty.jackpot.strategy.contribution.ContributionStrategyFactory;
+import com.sporty.jackpot.strategy.contribution.FixedContributionStrategy;
+import com.sporty.jackpot.strategy.contribution.VariableContributionStrategy;
+import com.sporty.jackpot.strategy.reward.RewardStrategy;
+import com.sporty.jackpot.strategy.reward.RewardStrategyFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 
 import java.util.ArrayList;
@@ -27,6 +43,7 @@ import java.util.ArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -41,12 +58,33 @@ class JackpotContributionServiceTest {
     @Mock
     private JackpotContributionRepository contributionRepository;
 
+    @Mock
+    private ContributedBetRepository contributedBetRepository;
+
     @Mock
     private ContributionStrategyFactory strategyFactory;
 
     @Mock
     private ContributionStrategy contributionStrategy;
 
+    @Mock
+    private JackpotPoolAccumulator poolAccumulator;
+
+    @Mock
+    private JackpotConfigCache configCache;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @Mock
+    private RewardStrategyFactory rewardStrategyFactory;
+
+    @Mock
+    private RewardStrategy rewardStrategy;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private JackpotContributionService service;
 
@@ -88,6 +126,95 @@ class JackpotContributionServiceTest {
         verify(jackpotRepository).save(jackpot);
     }
 
+    @Test
+    void processBatch_recordsContributionsPerJackpotAndLockWait() {
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        service.processBatch(List.of(bet, bet));
+
+        assertThat(meterRegistry.get(JackpotContributionService.CONTRIBUTION_COUNTER)
+                .tag("jackpot", jackpotId.toString()).counter().count()).isEqualTo(2);
+        Timer lockWait = meterRegistry.get(JackpotContributionService.LOCK_WAIT_TIMER)
+                .tag("operation", "contribution").timer();
+        assertThat(lockWait.count()).isEqualTo(1);
+        assertThat(meterRegistry.get(JackpotContributionService.PROCESS_TIMER).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void processBatch_idempotent_skipsBetsAlreadyContributed() {
+        enableIdempotency();
+        BetMessage newBet = betOf(BigDecimal.valueOf(100));
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(contributionRepository.findContributedBetIds(eq(jackpotId), any(), any()))
+                .thenReturn(List.of(bet.getBetId()));
+        when(contributedBetRepository.claim(any(), any())).thenAnswer(i -> new HashSet<>(i.getArgument(0)));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        List<JackpotContribution> result = service.processBatch(List.of(bet, newBet, newBet));
+
+        assertThat(result).extracting(JackpotContribution::getBetId).containsExactly(newBet.getBetId());
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+        assertThat(meterRegistry.get(JackpotContributionService.DUPLICATE_COUNTER).counter().count())
+                .isEqualTo(2);
+        verify(contributedBetRepository).claim(eq(Set.of(newBet.getBetId())), any());
+    }
+
+    @Test
+    void processBatch_idempotent_skipsBetClaimedByAnotherWriter() {
+        enableIdempotency();
+        BetMessage newBet = betOf(BigDecimal.valueOf(100));
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(contributionRepository.findContributedBetIds(eq(jackpotId), any(), any())).thenReturn(List.of());
+        when(contributedBetRepository.claim(any(), any())).thenReturn(Set.of(newBet.getBetId()));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        List<JackpotContribution> result = service.processBatch(List.of(bet, newBet));
+
+        assertThat(result).extracting(JackpotContribution::getBetId).containsExactly(newBet.getBetId());
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+        assertThat(meterRegistry.get(JackpotContributionService.DUPLICATE_COUNTER).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void processBatch_idempotent_fullyRedeliveredBatchLeavesPoolUntouched() {
+        enableIdempotency();
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(contributionRepository.findContributedBetIds(eq(jackpotId), any(), any()))
+                .thenReturn(List.of(bet.getBetId()));
+
+        List<JackpotContribution> result = service.processBatch(List.of(bet));
+
+        assertThat(result).isEmpty();
+        verify(jackpotRepository, never()).save(any());
+        verify(strategyFactory, never()).getStrategy(any());
+        verify(contributedBetRepository, never()).claim(any(), any());
+    }
+
+    @Test
+    void processBatch_configCacheEnabled_locksAndUpdatesOnlyPoolValue() {
+        when(configCache.isEnabled()).thenReturn(true);
+        when(jackpotRepository.findPoolValueForUpdate(jackpotId)).thenReturn(Optional.of(BigDecimal.valueOf(1000)));
+        when(configCache.get(jackpotId)).thenReturn(JackpotConfig.of(jackpot));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        List<JackpotContribution> result = service.processBatch(List.of(bet));
+
+        assertThat(result.get(0).getCurrentJackpotAmount()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+        verify(jackpotRepository).setPoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1005)), any());
+        verify(jackpotRepository, never()).findByIdWithLock(any());
+        verify(jackpotRepository, never()).save(any());
+    }
+
     @Test
     void processBatch_jackpotNotFound_throwsException() {
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.empty());
@@ -327,4 +454,224 @@ class JackpotContributionServiceTest {
 
         assertThat(batchResult).isEmpty();
     }
+
+    @Test
+    void processBatch_accumulatorEnabled_usesInMemoryPoolWithoutRowLock() {
+        when(poolAccumulator.isEnabled()).thenReturn(true);
+        when(poolAccumulator.acquire(jackpotId)).thenReturn(jackpot);
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        List<JackpotContribution> result = service.processBatch(List.of(bet));
+
+        assertThat(result).hasSize(1);
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+        verify(poolAccumulator).markUpdated(jackpotId, 1);
+        verify(jackpotRepository, never()).findByIdWithLock(any());
+        verify(jackpotRepository, never()).save(any());
+    }
+
+    @Test
+    void processBatch_fusedReward_winResetsPoolBeforeNextBet() {
+        enableFusedReward();
+        BetMessage bet2 = betOf(BigDecimal.valueOf(100));
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true, false);
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        List<JackpotContribution> result = service.processBatch(List.of(bet, bet2));
+
+        assertThat(result.get(0).getCurrentJackpotAmount()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+        assertThat(result.get(1).getCurrentJackpotAmount()).isEqualByComparingTo(BigDecimal.valueOf(505));
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(505));
+
+        List<JackpotReward> rewards = savedRewards();
+        assertThat(rewards).hasSize(1);
+        assertThat(rewards.get(0).getBetId()).isEqualTo(bet.getBetId());
+        assertThat(rewards.get(0).getUserId()).isEqualTo(bet.getUserId());
+        assertThat(rewards.get(0).getRewardAmount()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+        verify(jackpotRepository).save(jackpot);
+    }
+
+    @Test
+    void processBatch_fusedReward_noWin_savesNoRewards() {
+        enableFusedReward();
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(false);
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        service.processBatch(List.of(bet));
+
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+        verify(rewardRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void processBatch_fusedRewardDisabled_doesNotDraw() {
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        service.processBatch(List.of(bet));
+
+        verify(rewardStrategyFactory, never()).getStrategy(any());
+        verify(rewardRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void processBatch_fusedRewardWithAccumulator_marksPoolReset() {
+        enableFusedReward();
+        when(poolAccumulator.isEnabled()).thenReturn(true);
+        when(poolAccumulator.acquire(jackpotId)).thenReturn(jackpot);
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateContribution(any(), any())).thenReturn(BigDecimal.valueOf(5));
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        service.processBatch(List.of(bet));
+
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(500));
+        verify(poolAccumulator).markUpdated(jackpotId, 1);
+        verify(poolAccumulator).markReset(jackpotId);
+    }
+
+    @Test
+    void processBatch_fusedRewardWithFixedPoint_winResetsScaledPool() {
+        enableFusedReward();
+        ReflectionTestUtils.setField(service, "fixedPointEnabled", true);
+        BetMessage bet2 = betOf(BigDecimal.valueOf(100));
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(ContributionType.FIXED)).thenReturn(contributionStrategy);
+        when(contributionStrategy.calculateScaledContribution(anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(50_000L);
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true, false);
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        List<JackpotContribution> result = service.processBatch(List.of(bet, bet2));
+
+        assertThat(result.get(1).getCurrentJackpotAmount()).isEqualByComparingTo(BigDecimal.valueOf(505));
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(505));
+        assertThat(savedRewards().get(0).getRewardAmount()).isEqualByComparingTo(BigDecimal.valueOf(1005));
+    }
+
+    @Test
+    void processBatch_fixedPointEnabled_matchesBigDecimalResults() {
+        Random random = new Random(20250101L);
+        for (ContributionType type : ContributionType.values()) {
+            for (int round = 0; round < 200; round++) {
+                Jackpot template = Jackpot.builder()
+                        .id(jackpotId)
+                        .contributionType(type)
+                        .contributionPercentage(BigDecimal.valueOf(1 + random.nextInt(10_000), 4))
+                        .currentPoolValue(BigDecimal.valueOf(random.nextLong(10_000_000_000L), 4))
+                        .maxPoolLimit(random.nextBoolean()
+                                ? null
+                                : BigDecimal.valueOf(random.nextLong(1, 20_000_000_000L), 4))
+                        .build();
+                List<BetMessage> bets = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    bets.add(betOf(BigDecimal.valueOf(random.nextLong(1, 1_000_000L), random.nextInt(5))));
+                }
+
+                assertSameContributions(template, bets);
+            }
+        }
+    }
+
+    @Test
+    void processBatch_fixedPointEnabled_amountsBeyondLongRange_fallBackToBigDecimal() {
+        Jackpot template = Jackpot.builder()
+                .id(jackpotId)
+                .contributionType(ContributionType.FIXED)
+                .contributionPercentage(new BigDecimal("0.5000"))
+                .currentPoolValue(new BigDecimal("1000.0000"))
+                .build();
+
+        assertSameContributions(template, List.of(betOf(new BigDecimal("99999999999999.9999"))));
+    }
+
+    @Test
+    void processBatch_fixedPointEnabled_betWithMoreThanFourDecimals_fallsBackToBigDecimal() {
+        Jackpot template = Jackpot.builder()
+                .id(jackpotId)
+                .contributionType(ContributionType.VARIABLE)
+                .contributionPercentage(new BigDecimal("0.0500"))
+                .currentPoolValue(new BigDecimal("1000.0000"))
+                .maxPoolLimit(new BigDecimal("5000.0000"))
+                .build();
+
+        assertSameContributions(template, List.of(betOf(new BigDecimal("10.00005")), betOf(new BigDecimal("3"))));
+    }
+
+    private void assertSameContributions(Jackpot template, List<BetMessage> bets) {
+        ContributionStrategy strategy = template.getContributionType() == ContributionType.FIXED
+                ? new FixedContributionStrategy()
+                : new VariableContributionStrategy();
+        when(strategyFactory.getStrategy(template.getContributionType())).thenReturn(strategy);
+        when(contributionRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        Jackpot bigDecimalJackpot = copyOf(template);
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(bigDecimalJackpot));
+        ReflectionTestUtils.setField(service, "fixedPointEnabled", false);
+        List<JackpotContribution> expected = service.processBatch(bets);
+
+        Jackpot fixedPointJackpot = copyOf(template);
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(fixedPointJackpot));
+        ReflectionTestUtils.setField(service, "fixedPointEnabled", true);
+        List<JackpotContribution> actual = service.processBatch(bets);
+
+        assertThat(fixedPointJackpot.getCurrentPoolValue())
+                .isEqualByComparingTo(bigDecimalJackpot.getCurrentPoolValue());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getContributionAmount())
+                    .isEqualByComparingTo(expected.get(i).getContributionAmount());
+            assertThat(actual.get(i).getCurrentJackpotAmount())
+                    .isEqualByComparingTo(expected.get(i).getCurrentJackpotAmount());
+        }
+    }
+
+    private void enableFusedReward() {
+        ReflectionTestUtils.setField(service, "fusedRewardEnabled", true);
+        jackpot.setInitialPoolValue(BigDecimal.valueOf(500));
+        jackpot.setContributionPercentage(BigDecimal.valueOf(0.05));
+        jackpot.setRewardType(RewardType.FIXED);
+        when(rewardStrategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JackpotReward> savedRewards() {
+        ArgumentCaptor<List<JackpotReward>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rewardRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Jackpot copyOf(Jackpot template) {
+        return Jackpot.builder()
+                .id(template.getId())
+                .contributionType(template.getContributionType())
+                .contributionPercentage(template.getContributionPercentage())
+                .currentPoolValue(template.getCurrentPoolValue())
+                .maxPoolLimit(template.getMaxPoolLimit())
+                .build();
+    }
+
+    private BetMessage betOf(BigDecimal amount) {
+        return BetMessage.builder()
+                .betId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .jackpotId(jackpotId)
+                .betAmount(amount)
+                .build();
+    }
+
+    private void enableIdempotency() {
+        ReflectionTestUtils.setField(service, "idempotentEnabled", true);
+        ReflectionTestUtils.setField(service, "idempotentWindow", Duration.ofDays(7));
+    }
 }
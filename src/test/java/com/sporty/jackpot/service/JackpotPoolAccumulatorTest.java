@@ -0,0 +1,338 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.entity.ContributionType;
+import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RewardType;
+import com.sporty.jackpot.exception.JackpotNotFoundException;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotRepository;
+import com.sporty.jackpot.repository.JackpotRewardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JackpotPoolAccumulatorTest {
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JackpotPoolAccumulator accumulator;
+
+    private UUID jackpotId;
+    private Jackpot jackpot;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new JackpotPoolAccumulator(jackpotRepository, contributionRepository, rewardRepository,
+                transactionManager);
+        ReflectionTestUtils.setField(accumulator, "enabled", true);
+        ReflectionTestUtils.setField(accumulator, "flushBatchSize", 3);
+
+        jackpotId = UUID.randomUUID();
+        jackpot = Jackpot.builder()
+                .id(jackpotId)
+                .name("Test Jackpot")
+                .initialPoolValue(BigDecimal.valueOf(1000))
+                .currentPoolValue(BigDecimal.valueOf(1500))
+                .contributionType(ContributionType.FIXED)
+                .contributionPercentage(BigDecimal.valueOf(0.05))
+                .rewardType(RewardType.FIXED)
+                .rewardChancePercentage(BigDecimal.valueOf(0.01))
+                .updatedAt(Instant.parse("2025-01-01T10:00:00Z"))
+                .version(4L)
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void acquire_noLedgerRowsSinceFlush_usesJackpotTableValue() {
+        stubEmptyLedger();
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+
+        assertThat(pool.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1500));
+        assertThat(pool).isNotSameAs(jackpot);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    @Test
+    void acquire_contributionsSinceFlush_rebuildsFromLedger() {
+        stubFlush(1);
+        stubLedger(250, 0, 0);
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+
+        assertThat(pool.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1750));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        accumulator.flushAll();
+
+        verify(jackpotRepository).updatePoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1750)), eq(4L), any());
+    }
+
+    @Test
+    void acquire_winSinceFlush_rebuildsFromResetPool() {
+        // 1500 + 200 = 1700 is paid out and reset to 1000, then 100 more is contributed
+        stubLedger(300, 1700, 1);
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+
+        assertThat(pool.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1100));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    @Test
+    void acquire_unknownJackpot_throwsException() {
+        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accumulator.acquire(jackpotId))
+                .isInstanceOf(JackpotNotFoundException.class);
+    }
+
+    @Test
+    void acquire_outsideTransaction_throwsException() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThatThrownBy(() -> accumulator.acquire(jackpotId))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rollback_restoresPoolValue() {
+        stubEmptyLedger();
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(BigDecimal.valueOf(1600));
+        accumulator.markUpdated(jackpotId, 2);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(accumulator.acquire(jackpotId).getCurrentPoolValue())
+                .isEqualByComparingTo(BigDecimal.valueOf(1500));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        accumulator.flushAll();
+
+        verify(jackpotRepository, never()).updatePoolValue(any(), any(), any(), any());
+    }
+
+    @Test
+    void commit_belowFlushBatchSize_defersFlushToSchedule() {
+        stubFlush(1);
+        stubEmptyLedger();
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(BigDecimal.valueOf(1510));
+        accumulator.markUpdated(jackpotId, 2);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(jackpotRepository, never()).updatePoolValue(any(), any(), any(), any());
+
+        accumulator.flushAll();
+
+        verify(jackpotRepository).updatePoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1510)), eq(4L), any());
+    }
+
+    @Test
+    void commit_reachingFlushBatchSize_flushesImmediately() {
+        stubFlush(1);
+        stubEmptyLedger();
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(BigDecimal.valueOf(1515));
+        accumulator.markUpdated(jackpotId, 3);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(jackpotRepository).updatePoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1515)), eq(4L), any());
+    }
+
+    @Test
+    void markReset_flushesOnCommit() {
+        stubFlush(1);
+        stubEmptyLedger();
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(pool.getInitialPoolValue());
+        accumulator.markReset(jackpotId);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(jackpotRepository).updatePoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1000)), eq(4L), any());
+    }
+
+    @Test
+    void markUpdated_poolNotHeld_throwsException() {
+        assertThatThrownBy(() -> accumulator.markUpdated(jackpotId, 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void flush_rewardEvaluatedOutsideOwner_rebuildsPoolFromLedger() {
+        // The owner holds 15 of unflushed contributions when a REST reward pays out 1515 and bumps the version
+        Jackpot storedAfterReward = Jackpot.builder()
+                .id(jackpotId)
+                .initialPoolValue(BigDecimal.valueOf(1000))
+                .currentPoolValue(BigDecimal.valueOf(1500))
+                .updatedAt(jackpot.getUpdatedAt())
+                .version(5L)
+                .build();
+        Instant since = jackpot.getUpdatedAt();
+        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot), Optional.of(storedAfterReward));
+        when(contributionRepository.sumContributionAmountSince(jackpotId, since))
+                .thenReturn(BigDecimal.ZERO, BigDecimal.valueOf(15));
+        when(rewardRepository.sumRewardAmountSince(jackpotId, since))
+                .thenReturn(BigDecimal.ZERO, BigDecimal.valueOf(1515));
+        when(rewardRepository.countByJackpotIdAndCreatedAtAfter(jackpotId, since)).thenReturn(0L, 1L);
+        when(jackpotRepository.updatePoolValue(any(), any(), any(), any())).thenReturn(0, 1);
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(BigDecimal.valueOf(1515));
+        accumulator.markUpdated(jackpotId, 3);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(jackpotRepository).updatePoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1000)), eq(5L), any());
+        assertThat(pool.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(pool.getVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    void flush_success_advancesVersion() {
+        stubEmptyLedger();
+        stubFlush(1);
+
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(BigDecimal.valueOf(1515));
+        accumulator.markUpdated(jackpotId, 3);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(pool.getVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    void releasePartitions_flushesAndEvictsOwnedPools() {
+        stubEmptyLedger();
+        stubFlush(1);
+
+        accumulator.assignPartition(jackpotId, 3);
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(BigDecimal.valueOf(1505));
+        accumulator.markUpdated(jackpotId, 1);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        accumulator.releasePartitions(List.of(3));
+
+        verify(jackpotRepository).updatePoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1505)), eq(4L), any());
+
+        TransactionSynchronizationManager.initSynchronization();
+        accumulator.acquire(jackpotId);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(jackpotRepository, times(2)).findById(jackpotId);
+    }
+
+    @Test
+    void releasePartitions_otherPartition_keepsPool() {
+        stubEmptyLedger();
+
+        accumulator.assignPartition(jackpotId, 3);
+        accumulator.acquire(jackpotId);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        accumulator.releasePartitions(List.of(4));
+
+        TransactionSynchronizationManager.initSynchronization();
+        accumulator.acquire(jackpotId);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(jackpotRepository, times(1)).findById(jackpotId);
+    }
+
+    @Test
+    void releasePartitions_flushKeepsFailing_keepsPoolUntilFlushed() {
+        stubEmptyLedger();
+        when(jackpotRepository.updatePoolValue(any(), any(), any(), any())).thenReturn(0, 0, 0, 1);
+
+        accumulator.assignPartition(jackpotId, 3);
+        Jackpot pool = accumulator.acquire(jackpotId);
+        pool.setCurrentPoolValue(BigDecimal.valueOf(1505));
+        accumulator.markUpdated(jackpotId, 1);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        accumulator.releasePartitions(List.of(3));
+        accumulator.flushAll();
+
+        verify(jackpotRepository, times(4)).updatePoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1505)), any(), any());
+
+        TransactionSynchronizationManager.initSynchronization();
+        accumulator.acquire(jackpotId);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(jackpotRepository, times(4)).findById(jackpotId);
+    }
+
+    private void stubFlush(int updatedRows) {
+        when(jackpotRepository.updatePoolValue(any(), any(), any(), any())).thenReturn(updatedRows);
+    }
+
+    private void stubEmptyLedger() {
+        stubLedger(0, 0, 0);
+    }
+
+    private void stubLedger(long contributions, long rewards, long wins) {
+        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+        stubSums(contributions, rewards, wins);
+    }
+
+    private void stubSums(long contributions, long rewards, long wins) {
+        Instant since = jackpot.getUpdatedAt();
+        when(contributionRepository.sumContributionAmountSince(jackpotId, since))
+                .thenReturn(BigDecimal.valueOf(contributions));
+        when(rewardRepository.sumRewardAmountSince(jackpotId, since)).thenReturn(BigDecimal.valueOf(rewards));
+        when(rewardRepository.countByJackpotIdAndCreatedAtAfter(jackpotId, since)).thenReturn(wins);
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+}
@@ -1,32 +1,42 @@
 package com.sporty.jackpot.service;
 
 import com.sporty.jackpot.entity.Jackpot;
-import com.sporty.jackpot.entity.JackpotContribution;
 import com.sporty.jackpot.entity.JackpotReward;
 import com.sporty.jackpot.entity.RewardType;
 import com.sporty.jackpot.exception.ContributionNotFoundException;
+import com.sporty.jackpot.exception.DuplicateRewardException;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
 import com.sporty.jackpot.repository.JackpotContributionRepository;
 import com.sporty.jackpot.repository.JackpotRepository;
 import com.sporty.jackpot.repository.JackpotRewardRepository;
 import com.sporty.jackpot.strategy.reward.RewardStrategy;
 import com.sporty.jackpot.strategy.reward.RewardStrategyFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,6 +59,15 @@ class JackpotRewardServiceTest {
     @Mock
     private RewardStrategy rewardStrategy;
 
+    @Mock
+    private JackpotConfigCache configCache;
+
+    @Mock
+    private JackpotPoolAccumulator poolAccumulator;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private JackpotRewardService service;
 
@@ -56,7 +75,6 @@ class JackpotRewardServiceTest {
     private UUID userId;
     private UUID jackpotId;
     private Jackpot jackpot;
-    private JackpotContribution contribution;
 
     @BeforeEach
     void setUp() {
@@ -72,25 +90,16 @@ class JackpotRewardServiceTest {
                 .initialPoolValue(BigDecimal.valueOf(1000))
                 .currentPoolValue(BigDecimal.valueOf(5000))
                 .build();
-
-        contribution = JackpotContribution.builder()
-                .id(UUID.randomUUID())
-                .betId(betId)
-                .userId(userId)
-                .jackpotId(jackpotId)
-                .stakeAmount(BigDecimal.valueOf(100))
-                .contributionAmount(BigDecimal.valueOf(5))
-                .build();
     }
 
     @Test
     void evaluateReward_betWins_returnsReward() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
-        when(rewardRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
 
@@ -102,11 +111,11 @@ class JackpotRewardServiceTest {
     @Test
     void evaluateReward_betWins_resetsPool() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
-        when(rewardRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         service.evaluateReward(betId, userId, jackpotId);
 
@@ -118,7 +127,7 @@ class JackpotRewardServiceTest {
     @Test
     void evaluateReward_betLoses_returnsEmpty() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(jackpot)).thenReturn(false);
@@ -126,7 +135,36 @@ class JackpotRewardServiceTest {
         Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
 
         assertThat(result).isEmpty();
-        verify(rewardRepository, never()).save(any());
+        verify(rewardRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void evaluateReward_recordsOutcomeAndLockWait() {
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(false);
+
+        service.evaluateReward(betId, userId, jackpotId);
+
+        Timer evaluate = meterRegistry.get(JackpotRewardService.EVALUATE_TIMER).tag("outcome", "lost").timer();
+        assertThat(evaluate.count()).isEqualTo(1);
+        Timer lockWait = meterRegistry.get(JackpotContributionService.LOCK_WAIT_TIMER)
+                .tag("operation", "reward").timer();
+        assertThat(lockWait.count()).isEqualTo(1);
+    }
+
+    @Test
+    void evaluateReward_missingContribution_recordsErrorOutcome() {
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.evaluateReward(betId, userId, jackpotId))
+                .isInstanceOf(ContributionNotFoundException.class);
+
+        Timer evaluate = meterRegistry.get(JackpotRewardService.EVALUATE_TIMER).tag("outcome", "error").timer();
+        assertThat(evaluate.count()).isEqualTo(1);
     }
 
     @Test
@@ -147,7 +185,7 @@ class JackpotRewardServiceTest {
     @Test
     void evaluateReward_noContribution_throwsException() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(false);
 
         assertThatThrownBy(() -> service.evaluateReward(betId, userId, jackpotId))
                 .isInstanceOf(ContributionNotFoundException.class);
@@ -156,7 +194,7 @@ class JackpotRewardServiceTest {
     @Test
     void evaluateReward_jackpotNotFound_throwsException() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.evaluateReward(betId, userId, jackpotId))
@@ -177,11 +215,11 @@ class JackpotRewardServiceTest {
                 .build();
 
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(zeroPoolJackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(zeroPoolJackpot)).thenReturn(true);
-        when(rewardRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
 
@@ -201,11 +239,11 @@ class JackpotRewardServiceTest {
                 .build();
 
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(largePoolJackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(largePoolJackpot)).thenReturn(true);
-        when(rewardRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
 
@@ -216,25 +254,45 @@ class JackpotRewardServiceTest {
 
     @Test
     void evaluateReward_multipleContributionsExist_stillEvaluates() {
-        JackpotContribution contribution2 = JackpotContribution.builder()
-                .id(UUID.randomUUID())
-                .betId(betId)
-                .userId(userId)
-                .jackpotId(jackpotId)
-                .stakeAmount(BigDecimal.valueOf(200))
-                .contributionAmount(BigDecimal.valueOf(10))
-                .build();
-
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution, contribution2));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
-        when(rewardRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
 
         assertThat(result).isPresent();
+        verify(contributionRepository, never()).findByBetId(any());
+    }
+
+    @Test
+    void evaluateReward_concurrentRewardForSameBet_throwsDuplicateReward() {
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
+        when(rewardRepository.saveAndFlush(any())).thenThrow(integrityViolation("UK_JACKPOT_REWARDS_BET_ID_INDEX_5"));
+
+        assertThatThrownBy(() -> service.evaluateReward(betId, userId, jackpotId))
+                .isInstanceOf(DuplicateRewardException.class)
+                .hasMessageContaining(betId.toString());
+        verify(jackpotRepository, never()).save(any());
+    }
+
+    @Test
+    void evaluateReward_otherIntegrityViolation_isRethrown() {
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
+        when(rewardRepository.saveAndFlush(any())).thenThrow(integrityViolation(null));
+
+        assertThatThrownBy(() -> service.evaluateReward(betId, userId, jackpotId))
+                .isExactlyInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -250,7 +308,7 @@ class JackpotRewardServiceTest {
                 .build();
 
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(variableJackpot));
         when(strategyFactory.getStrategy(RewardType.VARIABLE)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(variableJackpot)).thenReturn(false);
@@ -263,13 +321,13 @@ class JackpotRewardServiceTest {
     @Test
     void evaluateReward_preservesRewardMetadata() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
 
         ArgumentCaptor<JackpotReward> captor = ArgumentCaptor.forClass(JackpotReward.class);
-        when(rewardRepository.save(captor.capture())).thenAnswer(i -> i.getArgument(0));
+        when(rewardRepository.saveAndFlush(captor.capture())).thenAnswer(i -> i.getArgument(0));
 
         service.evaluateReward(betId, userId, jackpotId);
 
@@ -285,7 +343,7 @@ class JackpotRewardServiceTest {
         BigDecimal originalPool = jackpot.getCurrentPoolValue();
 
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(jackpot)).thenReturn(false);
@@ -311,7 +369,7 @@ class JackpotRewardServiceTest {
 
         assertThat(result).isPresent();
         assertThat(result.get()).isEqualTo(existingReward);
-        verify(contributionRepository, never()).findByBetId(any());
+        verify(contributionRepository, never()).existsByBetId(any());
         verify(jackpotRepository, never()).findByIdWithLock(any());
         verify(rewardStrategy, never()).evaluateWin(any());
     }
@@ -319,7 +377,7 @@ class JackpotRewardServiceTest {
     @Test
     void evaluateReward_contributionNotFoundExceptionContainsBetId() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(false);
 
         assertThatThrownBy(() -> service.evaluateReward(betId, userId, jackpotId))
                 .isInstanceOf(ContributionNotFoundException.class)
@@ -329,7 +387,7 @@ class JackpotRewardServiceTest {
     @Test
     void evaluateReward_jackpotNotFoundExceptionContainsJackpotId() {
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.evaluateReward(betId, userId, jackpotId))
@@ -349,11 +407,11 @@ class JackpotRewardServiceTest {
                 .build();
 
         when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
-        when(contributionRepository.findByBetId(betId)).thenReturn(List.of(contribution));
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
         when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(customJackpot));
         when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
         when(rewardStrategy.evaluateWin(customJackpot)).thenReturn(true);
-        when(rewardRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
 
         service.evaluateReward(betId, userId, jackpotId);
 
@@ -361,4 +419,102 @@ class JackpotRewardServiceTest {
         verify(jackpotRepository).save(captor.capture());
         assertThat(captor.getValue().getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(2500));
     }
+
+    @Test
+    void evaluateReward_betWins_savesRewardBeforeResettingPool() {
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
+        when(rewardStrategy.evaluateWin(jackpot)).thenReturn(true);
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+
+        service.evaluateReward(betId, userId, jackpotId);
+
+        InOrder inOrder = inOrder(rewardRepository, jackpotRepository);
+        inOrder.verify(rewardRepository).saveAndFlush(any());
+        inOrder.verify(jackpotRepository).save(jackpot);
+    }
+
+    @Test
+    void evaluateReward_configCacheEnabled_resetsPoolValueOnly() {
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
+        when(configCache.isEnabled()).thenReturn(true);
+        when(jackpotRepository.findPoolValueForUpdate(jackpotId)).thenReturn(Optional.of(BigDecimal.valueOf(5000)));
+        when(configCache.get(jackpotId)).thenReturn(JackpotConfig.of(jackpot));
+        when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
+        when(rewardStrategy.evaluateWin(any())).thenReturn(true);
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+
+        Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getRewardAmount()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+        verify(jackpotRepository).setPoolValue(eq(jackpotId), eq(BigDecimal.valueOf(1000)), any());
+        verify(jackpotRepository, never()).findByIdWithLock(any());
+        verify(jackpotRepository, never()).save(any());
+    }
+
+    @Test
+    void evaluateReward_accumulatorWithUnflushedContributions_paysThemOutAndLeavesResetToOwner() {
+        jackpot.setUpdatedAt(Instant.parse("2025-01-01T10:00:00Z"));
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
+        when(poolAccumulator.isEnabled()).thenReturn(true);
+        when(jackpotRepository.findByIdWithLock(jackpotId)).thenReturn(Optional.of(jackpot));
+        // 600 contributed since the owner's last flush is only in the ledger, not in the 5000 of the jackpot row
+        when(poolAccumulator.committedPoolValue(jackpot)).thenReturn(BigDecimal.valueOf(5600));
+        when(strategyFactory.getStrategy(RewardType.FIXED)).thenReturn(rewardStrategy);
+        when(rewardStrategy.evaluateWin(any())).thenReturn(true);
+        when(rewardRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+
+        Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getRewardAmount()).isEqualByComparingTo(BigDecimal.valueOf(5600));
+        InOrder inOrder = inOrder(rewardRepository, jackpotRepository);
+        inOrder.verify(rewardRepository).saveAndFlush(any());
+        inOrder.verify(jackpotRepository).incrementVersion(jackpotId);
+        verify(jackpotRepository, never()).save(any());
+        verify(jackpotRepository, never()).setPoolValue(any(), any(), any());
+        assertThat(jackpot.getCurrentPoolValue()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+        assertThat(jackpot.getUpdatedAt()).isEqualTo(Instant.parse("2025-01-01T10:00:00Z"));
+    }
+
+    @Test
+    void evaluateReward_fusedRewardEnabled_reportsLossWithoutSecondDraw() {
+        ReflectionTestUtils.setField(service, "fusedRewardEnabled", true);
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.empty());
+        when(contributionRepository.existsByBetId(betId)).thenReturn(true);
+
+        Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
+
+        assertThat(result).isEmpty();
+        verify(jackpotRepository, never()).findByIdWithLock(any());
+        verify(strategyFactory, never()).getStrategy(any());
+        verify(rewardRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void evaluateReward_fusedRewardEnabled_returnsRecordedWin() {
+        ReflectionTestUtils.setField(service, "fusedRewardEnabled", true);
+        JackpotReward recorded = JackpotReward.builder()
+                .betId(betId)
+                .userId(userId)
+                .jackpotId(jackpotId)
+                .rewardAmount(BigDecimal.valueOf(5000))
+                .build();
+        when(rewardRepository.findByBetId(betId)).thenReturn(Optional.of(recorded));
+
+        Optional<JackpotReward> result = service.evaluateReward(betId, userId, jackpotId);
+
+        assertThat(result).contains(recorded);
+        verify(jackpotRepository, never()).findByIdWithLock(any());
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
 }
@@ -1,10 +1,14 @@
 package com.sporty.jackpot.service;
 
 import com.sporty.jackpot.dto.JackpotDto;
+import com.sporty.jackpot.dto.JackpotPage;
 import com.sporty.jackpot.dto.JackpotRequest;
+import com.sporty.jackpot.dto.PageCursor;
 import com.sporty.jackpot.entity.ContributionType;
 import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RandomSourceType;
 import com.sporty.jackpot.entity.RewardType;
+import com.sporty.jackpot.exception.InvalidCursorException;
 import com.sporty.jackpot.exception.JackpotNotFoundException;
 import com.sporty.jackpot.mapper.JackpotMapper;
 import com.sporty.jackpot.repository.JackpotRepository;
@@ -14,9 +18,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +32,7 @@ import org.mockito.ArgumentCaptor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +45,9 @@ class JackpotServiceTest {
     @Mock
     private JackpotMapper jackpotMapper;
 
+    @Mock
+    private JackpotConfigCache configCache;
+
     @InjectMocks
     private JackpotService jackpotService;
 
@@ -120,27 +130,50 @@ class JackpotServiceTest {
     }
 
     @Test
-    void getJackpot_existingId_returnsJackpot() {
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.of(jackpot));
+    void createJackpot_withRandomSource_storesSelectedSource() {
+        request.setRandomSource(RandomSourceType.SPLITTABLE);
+        ArgumentCaptor<Jackpot> jackpotCaptor = ArgumentCaptor.forClass(Jackpot.class);
+        when(jackpotRepository.save(jackpotCaptor.capture())).thenReturn(jackpot);
         when(jackpotMapper.toDto(jackpot)).thenReturn(jackpotDto);
 
+        jackpotService.createJackpot(request);
+
+        assertThat(jackpotCaptor.getValue().getRandomSource()).isEqualTo(RandomSourceType.SPLITTABLE);
+    }
+
+    @Test
+    void createJackpot_primesConfigCache() {
+        when(jackpotRepository.save(any(Jackpot.class))).thenReturn(jackpot);
+        when(jackpotMapper.toDto(jackpot)).thenReturn(jackpotDto);
+
+        jackpotService.createJackpot(request);
+
+        verify(configCache).put(JackpotConfig.of(jackpot));
+    }
+
+    @Test
+    void getJackpot_existingId_returnsJackpot() {
+        when(jackpotRepository.findDtoById(jackpotId)).thenReturn(Optional.of(jackpotDto));
+
         JackpotDto result = jackpotService.getJackpot(jackpotId);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(jackpotId);
         assertThat(result.getName()).isEqualTo("Test Jackpot");
+        verify(jackpotRepository, never()).findById(any());
+        verify(jackpotMapper, never()).toDto(any());
     }
 
     @Test
     void getJackpot_nonExistingId_throwsException() {
-        when(jackpotRepository.findById(jackpotId)).thenReturn(Optional.empty());
+        when(jackpotRepository.findDtoById(jackpotId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> jackpotService.getJackpot(jackpotId))
                 .isInstanceOf(JackpotNotFoundException.class);
     }
 
     @Test
-    void getAllJackpots_returnsAllJackpots() {
+    void getJackpots_firstPage_returnsPageWithoutCursor() {
         Jackpot jackpot2 = Jackpot.builder()
                 .id(UUID.randomUUID())
                 .name("Another Jackpot")
@@ -151,24 +184,84 @@ class JackpotServiceTest {
                 .name("Another Jackpot")
                 .build();
 
-        when(jackpotRepository.findAll()).thenReturn(List.of(jackpot, jackpot2));
+        when(jackpotRepository.findAllByOrderByCreatedAtAscIdAsc(Limit.of(11))).thenReturn(List.of(jackpot, jackpot2));
         when(jackpotMapper.toDto(jackpot)).thenReturn(jackpotDto);
         when(jackpotMapper.toDto(jackpot2)).thenReturn(jackpotDto2);
 
-        List<JackpotDto> result = jackpotService.getAllJackpots();
+        JackpotPage result = jackpotService.getJackpots(null, 10);
 
-        assertThat(result).hasSize(2);
-        assertThat(result).extracting(JackpotDto::getName)
+        assertThat(result.jackpots()).extracting(JackpotDto::getName)
                 .containsExactly("Test Jackpot", "Another Jackpot");
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getJackpots_emptyDatabase_returnsEmptyPage() {
+        when(jackpotRepository.findAllByOrderByCreatedAtAscIdAsc(any())).thenReturn(List.of());
+
+        JackpotPage result = jackpotService.getJackpots(null, 10);
+
+        assertThat(result.jackpots()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getJackpots_morePages_returnsCursorOfLastJackpot() {
+        Jackpot extra = Jackpot.builder().id(UUID.randomUUID()).name("Next Page").build();
+        when(jackpotRepository.findAllByOrderByCreatedAtAscIdAsc(Limit.of(2))).thenReturn(List.of(jackpot, extra));
+        when(jackpotMapper.toDto(jackpot)).thenReturn(jackpotDto);
+
+        JackpotPage result = jackpotService.getJackpots("", 1);
+
+        assertThat(result.jackpots()).containsExactly(jackpotDto);
+        assertThat(PageCursor.decode(result.nextCursor()))
+                .isEqualTo(new PageCursor(jackpotDto.getCreatedAt(), jackpotId));
     }
 
     @Test
-    void getAllJackpots_emptyDatabase_returnsEmptyList() {
-        when(jackpotRepository.findAll()).thenReturn(List.of());
+    void getJackpots_withCursor_seeksPastCursor() {
+        Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+        UUID lastId = UUID.randomUUID();
+        String cursor = new PageCursor(createdAt, lastId).encode();
+        when(jackpotRepository.findPageAfter(createdAt, lastId, Limit.of(JackpotService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
 
-        List<JackpotDto> result = jackpotService.getAllJackpots();
+        JackpotPage result = jackpotService.getJackpots(cursor, 50_000);
 
-        assertThat(result).isEmpty();
+        assertThat(result.jackpots()).isEmpty();
+    }
+
+    @Test
+    void getJackpots_malformedCursor_throwsException() {
+        assertThatThrownBy(() -> jackpotService.getJackpots("not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void getAllJackpots_returnsEveryJackpot() {
+        when(jackpotRepository.findAll()).thenReturn(List.of(jackpot));
+        when(jackpotMapper.toDto(jackpot)).thenReturn(jackpotDto);
+
+        assertThat(jackpotService.getAllJackpots()).containsExactly(jackpotDto);
+    }
+
+    @Test
+    void streamJackpots_readsPagesUntilShortPage() {
+        List<Jackpot> firstPage = new ArrayList<>();
+        for (int i = 0; i < JackpotService.STREAM_PAGE_SIZE; i++) {
+            firstPage.add(Jackpot.builder().id(UUID.randomUUID()).createdAt(Instant.now()).build());
+        }
+        Jackpot last = firstPage.getLast();
+        when(jackpotRepository.findAllByOrderByCreatedAtAscIdAsc(Limit.of(JackpotService.STREAM_PAGE_SIZE)))
+                .thenReturn(firstPage);
+        when(jackpotRepository.findPageAfter(last.getCreatedAt(), last.getId(),
+                Limit.of(JackpotService.STREAM_PAGE_SIZE))).thenReturn(List.of(jackpot));
+        when(jackpotMapper.toDto(any(Jackpot.class))).thenReturn(jackpotDto);
+
+        List<JackpotDto> streamed = new ArrayList<>();
+        jackpotService.streamJackpots(streamed::add);
+
+        assertThat(streamed).hasSize(JackpotService.STREAM_PAGE_SIZE + 1);
     }
 
     // ========== Edge Case Tests ==========
@@ -304,37 +397,13 @@ class JackpotServiceTest {
     @Test
     void getJackpot_exceptionMessageContainsJackpotId() {
         UUID missingId = UUID.randomUUID();
-        when(jackpotRepository.findById(missingId)).thenReturn(Optional.empty());
+        when(jackpotRepository.findDtoById(missingId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> jackpotService.getJackpot(missingId))
                 .isInstanceOf(JackpotNotFoundException.class)
                 .hasMessageContaining(missingId.toString());
     }
 
-    @Test
-    void getAllJackpots_withManyJackpots_returnsAllInOrder() {
-        List<Jackpot> manyJackpots = List.of(
-                Jackpot.builder().id(UUID.randomUUID()).name("Jackpot 1").build(),
-                Jackpot.builder().id(UUID.randomUUID()).name("Jackpot 2").build(),
-                Jackpot.builder().id(UUID.randomUUID()).name("Jackpot 3").build(),
-                Jackpot.builder().id(UUID.randomUUID()).name("Jackpot 4").build(),
-                Jackpot.builder().id(UUID.randomUUID()).name("Jackpot 5").build()
-        );
-
-        when(jackpotRepository.findAll()).thenReturn(manyJackpots);
-        for (int i = 0; i < manyJackpots.size(); i++) {
-            Jackpot j = manyJackpots.get(i);
-            JackpotDto dto = JackpotDto.builder().id(j.getId()).name(j.getName()).build();
-            when(jackpotMapper.toDto(j)).thenReturn(dto);
-        }
-
-        List<JackpotDto> result = jackpotService.getAllJackpots();
-
-        assertThat(result).hasSize(5);
-        assertThat(result).extracting(JackpotDto::getName)
-                .containsExactly("Jackpot 1", "Jackpot 2", "Jackpot 3", "Jackpot 4", "Jackpot 5");
-    }
-
     @Test
     void createJackpot_withZeroRewardChance_createsJackpot() {
         JackpotRequest zeroChanceRequest = JackpotRequest.builder()
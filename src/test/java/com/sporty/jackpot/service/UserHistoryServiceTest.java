@@ -0,0 +1,100 @@
+package com.sporty.jackpot.service;
+
+import com.sporty.jackpot.dto.ContributionHistoryDto;
+import com.sporty.jackpot.dto.HistoryPage;
+import com.sporty.jackpot.dto.PageCursor;
+import com.sporty.jackpot.dto.RewardHistoryDto;
+import com.sporty.jackpot.exception.InvalidCursorException;
+import com.sporty.jackpot.repository.JackpotContributionRepository;
+import com.sporty.jackpot.repository.JackpotRewardRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserHistoryServiceTest {
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @InjectMocks
+    private UserHistoryService userHistoryService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void getContributions_lastPage_hasNoCursor() {
+        ContributionHistoryDto contribution = contribution(Instant.parse("2025-01-01T10:00:00Z"));
+        when(contributionRepository.findHistoryByUserId(userId, Limit.of(11))).thenReturn(List.of(contribution));
+
+        HistoryPage<ContributionHistoryDto> page = userHistoryService.getContributions(userId, null, 10);
+
+        assertThat(page.items()).containsExactly(contribution);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getContributions_morePages_returnsCursorOfLastItem() {
+        ContributionHistoryDto newest = contribution(Instant.parse("2025-01-02T10:00:00Z"));
+        ContributionHistoryDto older = contribution(Instant.parse("2025-01-01T10:00:00Z"));
+        when(contributionRepository.findHistoryByUserId(userId, Limit.of(2))).thenReturn(List.of(newest, older));
+
+        HistoryPage<ContributionHistoryDto> page = userHistoryService.getContributions(userId, "", 1);
+
+        assertThat(page.items()).containsExactly(newest);
+        assertThat(PageCursor.decode(page.nextCursor())).isEqualTo(new PageCursor(newest.createdAt(), newest.id()));
+    }
+
+    @Test
+    void getContributions_withCursor_seeksBeforeCursorAndClampsLimit() {
+        PageCursor cursor = new PageCursor(Instant.parse("2025-01-01T10:00:00Z"), UUID.randomUUID());
+        when(contributionRepository.findHistoryByUserIdBefore(userId, cursor.createdAt(), cursor.id(),
+                Limit.of(UserHistoryService.MAX_PAGE_SIZE + 1))).thenReturn(List.of());
+
+        HistoryPage<ContributionHistoryDto> page =
+                userHistoryService.getContributions(userId, cursor.encode(), 1_000_000);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getRewards_withCursor_seeksBeforeCursor() {
+        PageCursor cursor = new PageCursor(Instant.parse("2025-01-01T10:00:00Z"), UUID.randomUUID());
+        RewardHistoryDto reward = new RewardHistoryDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                BigDecimal.valueOf(5000), Instant.parse("2024-12-31T10:00:00Z"));
+        when(rewardRepository.findHistoryByUserIdBefore(userId, cursor.createdAt(), cursor.id(), Limit.of(6)))
+                .thenReturn(List.of(reward));
+
+        HistoryPage<RewardHistoryDto> page = userHistoryService.getRewards(userId, cursor.encode(), 5);
+
+        assertThat(page.items()).containsExactly(reward);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getRewards_malformedCursor_throwsException() {
+        assertThatThrownBy(() -> userHistoryService.getRewards(userId, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static ContributionHistoryDto contribution(Instant createdAt) {
+        return new ContributionHistoryDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                BigDecimal.valueOf(100), BigDecimal.valueOf(5), BigDecimal.valueOf(1005), createdAt);
+    }
+}
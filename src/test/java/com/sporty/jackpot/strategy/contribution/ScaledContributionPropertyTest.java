@@ -0,0 +1,91 @@
+package com.sporty.jackpot.strategy.contribution;
+
+import com.sporty.jackpot.entity.Jackpot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScaledContributionPropertyTest {
+
+    private static final int CASES = 100_000;
+
+    private final List<ContributionStrategy> strategies =
+            List.of(new FixedContributionStrategy(), new VariableContributionStrategy());
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 2L, 3L, 5L, 8L, 13L})
+    void scaledContribution_randomInputs_equalsBigDecimalContribution(long seed) {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < CASES; i++) {
+            long betAmount = randomAmount(random, 10_000_000_000L);
+            long percentage = 1 + random.nextInt(10_000);
+            long poolValue = randomAmount(random, 100_000_000_000_000L);
+            long maxPoolLimit = random.nextInt(4) == 0 ? 0 : 1 + randomAmount(random, 100_000_000_000_000L);
+
+            assertSameContribution(betAmount, percentage, poolValue, maxPoolLimit);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {21L, 34L, 55L})
+    void scaledContribution_halfwayProducts_roundLikeBigDecimal(long seed) {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < CASES; i++) {
+            long percentage = 5_000L;
+            long betAmount = 2 * random.nextLong(1, 1_000_000_000L) + 1;
+            long poolValue = randomAmount(random, 10_000_000_000L);
+            long maxPoolLimit = random.nextBoolean() ? 0 : 2 * poolValue + 1;
+
+            assertSameContribution(betAmount, percentage, poolValue, maxPoolLimit);
+        }
+    }
+
+    @Test
+    void scaledContribution_poolBeyondLimit_usesMinimumMultiplier() {
+        assertSameContribution(1_000_000L, 500L, 20_000_000L, 10_000_000L);
+        assertSameContribution(1_000_000L, 500L, 10_000_000L, 10_000_000L);
+        assertSameContribution(1_000_000L, 500L, 9_000_000L, 10_000_000L);
+        assertSameContribution(1_000_000L, 500L, 8_999_999L, 10_000_000L);
+    }
+
+    @Test
+    void scaledContribution_smallestAmounts_roundLikeBigDecimal() {
+        for (long betAmount = 1; betAmount <= 100; betAmount++) {
+            for (long percentage = 1; percentage <= 10_000; percentage += 37) {
+                assertSameContribution(betAmount, percentage, 0, 0);
+                assertSameContribution(betAmount, percentage, 3, 7);
+            }
+        }
+    }
+
+    private void assertSameContribution(long betAmount, long percentage, long poolValue, long maxPoolLimit) {
+        Jackpot jackpot = Jackpot.builder()
+                .contributionPercentage(ScaledMoney.toBigDecimal(percentage))
+                .currentPoolValue(ScaledMoney.toBigDecimal(poolValue))
+                .maxPoolLimit(maxPoolLimit == 0 ? null : ScaledMoney.toBigDecimal(maxPoolLimit))
+                .build();
+
+        for (ContributionStrategy strategy : strategies) {
+            BigDecimal expected = strategy.calculateContribution(ScaledMoney.toBigDecimal(betAmount), jackpot);
+            long actual = strategy.calculateScaledContribution(betAmount, percentage, poolValue, maxPoolLimit);
+
+            assertThat(ScaledMoney.toBigDecimal(actual))
+                    .as("%s bet=%d pct=%d pool=%d max=%d", strategy.getType(),
+                            betAmount, percentage, poolValue, maxPoolLimit)
+                    .isEqualByComparingTo(expected);
+        }
+    }
+
+    private static long randomAmount(Random random, long bound) {
+        long magnitude = (long) Math.pow(10, random.nextInt(Long.toString(bound).length()));
+        return random.nextLong(Math.min(magnitude, bound)) + 1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.sporty.jackpot.strategy.contribution;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScaledMoneyTest {
+
+    private static final int CASES = 50_000;
+
+    @Test
+    void toScaled_fourDecimals_returnsTenThousandths() {
+        assertThat(ScaledMoney.toScaled(new BigDecimal("12.3456"))).isEqualTo(123_456L);
+        assertThat(ScaledMoney.toScaled(new BigDecimal("12.3"))).isEqualTo(123_000L);
+        assertThat(ScaledMoney.toScaled(new BigDecimal("1.2E+2"))).isEqualTo(1_200_000L);
+    }
+
+    @Test
+    void toScaled_moreThanFourDecimals_throwsArithmeticException() {
+        assertThatThrownBy(() -> ScaledMoney.toScaled(new BigDecimal("0.00001")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void toScaled_beyondLongRange_throwsArithmeticException() {
+        assertThatThrownBy(() -> ScaledMoney.toScaled(new BigDecimal("1000000000000000.0000")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void toScaledOrZero_null_returnsZero() {
+        assertThat(ScaledMoney.toScaledOrZero(null)).isZero();
+    }
+
+    @Test
+    void toBigDecimal_returnsScaleFourValue() {
+        BigDecimal value = ScaledMoney.toBigDecimal(123_456L);
+
+        assertThat(value).isEqualTo(new BigDecimal("12.3456"));
+        assertThat(value.scale()).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 7L, 42L, 1_000_003L})
+    void divideHalfUp_matchesBigDecimalHalfUp(long seed) {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < CASES; i++) {
+            long dividend = random.nextLong() >> random.nextInt(63);
+            long divisor = random.nextLong() >> random.nextInt(63);
+            if (divisor == 0) {
+                continue;
+            }
+
+            long expected = BigDecimal.valueOf(dividend)
+                    .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+
+            assertThat(ScaledMoney.divideHalfUp(dividend, divisor))
+                    .as("%d / %d", dividend, divisor)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void divideHalfUp_exactHalves_roundAwayFromZero() {
+        assertThat(ScaledMoney.divideHalfUp(5, 10)).isEqualTo(1);
+        assertThat(ScaledMoney.divideHalfUp(-5, 10)).isEqualTo(-1);
+        assertThat(ScaledMoney.divideHalfUp(15_000, 10_000)).isEqualTo(2);
+        assertThat(ScaledMoney.divideHalfUp(14_999, 10_000)).isEqualTo(1);
+    }
+}
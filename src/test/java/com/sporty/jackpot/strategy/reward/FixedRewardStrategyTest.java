@@ -1,12 +1,14 @@
 package com.sporty.jackpot.strategy.reward;
 
 import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RandomSourceType;
 import com.sporty.jackpot.entity.RewardType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,7 +18,7 @@ class FixedRewardStrategyTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new FixedRewardStrategy();
+        strategy = new FixedRewardStrategy(randomSources());
     }
 
     @Test
@@ -161,10 +163,41 @@ class FixedRewardStrategyTest {
         strategy.evaluateWin(jackpot);
     }
 
+    @Test
+    void evaluateWin_usesRandomSourceSelectedByJackpot() {
+        FixedRewardStrategy pinned = new FixedRewardStrategy(new RandomSourceFactory(List.of(
+                new ConstantRandomSource(RandomSourceType.SECURE, 0.99),
+                new ConstantRandomSource(RandomSourceType.SPLITTABLE, 0.01)), RandomSourceType.SECURE));
+        Jackpot jackpot = createJackpot(BigDecimal.valueOf(0.5));
+
+        assertThat(pinned.evaluateWin(jackpot)).isFalse();
+
+        jackpot.setRandomSource(RandomSourceType.SPLITTABLE);
+
+        assertThat(pinned.evaluateWin(jackpot)).isTrue();
+    }
+
     private Jackpot createJackpot(BigDecimal rewardChance) {
         return Jackpot.builder()
                 .rewardChancePercentage(rewardChance)
                 .currentPoolValue(BigDecimal.valueOf(10000))
                 .build();
     }
+
+    private static RandomSourceFactory randomSources() {
+        return new RandomSourceFactory(
+                List.of(new SecureRandomSource(), new SplittableRandomSource()), RandomSourceType.SECURE);
+    }
+
+    private record ConstantRandomSource(RandomSourceType type, double value) implements RandomSource {
+        @Override
+        public double nextDouble() {
+            return value;
+        }
+
+        @Override
+        public RandomSourceType getType() {
+            return type;
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.sporty.jackpot.strategy.reward;
+
+import com.sporty.jackpot.entity.RandomSourceType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomSourceFactoryTest {
+
+    private final RandomSourceFactory factory = new RandomSourceFactory(
+            List.of(new SecureRandomSource(), new SplittableRandomSource()), RandomSourceType.SPLITTABLE);
+
+    @Test
+    void getSource_secureType_returnsSecureSource() {
+        assertThat(factory.getSource(RandomSourceType.SECURE)).isInstanceOf(SecureRandomSource.class);
+    }
+
+    @Test
+    void getSource_splittableType_returnsSplittableSource() {
+        assertThat(factory.getSource(RandomSourceType.SPLITTABLE)).isInstanceOf(SplittableRandomSource.class);
+    }
+
+    @Test
+    void getSource_nullType_returnsDefaultSource() {
+        assertThat(factory.getSource(null)).isInstanceOf(SplittableRandomSource.class);
+    }
+
+    @Test
+    void getSource_unregisteredType_throwsException() {
+        RandomSourceFactory secureOnly =
+                new RandomSourceFactory(List.of(new SecureRandomSource()), RandomSourceType.SECURE);
+
+        assertThatThrownBy(() -> secureOnly.getSource(RandomSourceType.SPLITTABLE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("SPLITTABLE");
+    }
+}
@@ -0,0 +1,148 @@
+package com.sporty.jackpot.strategy.reward;
+
+import com.sporty.jackpot.entity.RandomSourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomSourceFairnessTest {
+
+    private static final int SAMPLES = 1_000_000;
+    private static final int BUCKETS = 100;
+
+    // Chi-square critical value for 99 degrees of freedom at p = 1e-6
+    private static final double CHI_SQUARE_CRITICAL = 181.1;
+
+    // Allowed deviation in standard deviations; a fair source exceeds it with probability below 1e-6
+    private static final double MAX_SIGMAS = 5.0;
+
+    private final RandomSourceFactory factory = new RandomSourceFactory(
+            List.of(new SecureRandomSource(), new SplittableRandomSource()), RandomSourceType.SECURE);
+
+    @ParameterizedTest
+    @EnumSource(RandomSourceType.class)
+    void nextDouble_staysWithinUnitInterval(RandomSourceType type) {
+        RandomSource source = factory.getSource(type);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertThat(source.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSourceType.class)
+    void nextDouble_isUniformAcrossBuckets(RandomSourceType type) {
+        RandomSource source = factory.getSource(type);
+        long[] counts = new long[BUCKETS];
+
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[(int) (source.nextDouble() * BUCKETS)]++;
+        }
+
+        double expected = (double) SAMPLES / BUCKETS;
+        double chiSquare = 0;
+        for (long count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+
+        assertThat(chiSquare).isLessThan(CHI_SQUARE_CRITICAL);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSourceType.class)
+    void nextDouble_winRateMatchesChance(RandomSourceType type) {
+        RandomSource source = factory.getSource(type);
+        double chance = 0.01;
+
+        int wins = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            if (source.nextDouble() < chance) {
+                wins++;
+            }
+        }
+
+        double expected = SAMPLES * chance;
+        double sigma = Math.sqrt(SAMPLES * chance * (1 - chance));
+        assertThat(Math.abs(wins - expected)).isLessThan(MAX_SIGMAS * sigma);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSourceType.class)
+    void nextDouble_consecutiveDrawsAreUncorrelated(RandomSourceType type) {
+        RandomSource source = factory.getSource(type);
+
+        double previous = source.nextDouble() - 0.5;
+        double sumOfProducts = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double current = source.nextDouble() - 0.5;
+            sumOfProducts += previous * current;
+            sumOfSquares += current * current;
+            previous = current;
+        }
+
+        double correlation = sumOfProducts / sumOfSquares;
+        assertThat(Math.abs(correlation)).isLessThan(MAX_SIGMAS / Math.sqrt(SAMPLES));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomSourceType.class)
+    void nextDouble_concurrentDraws_remainFair(RandomSourceType type) throws Exception {
+        RandomSource source = factory.getSource(type);
+        int threads = 8;
+        int samplesPerThread = SAMPLES / threads;
+        double chance = 0.25;
+
+        int wins = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<Integer>> results = executor.invokeAll(Collections.nCopies(threads, () -> {
+                int threadWins = 0;
+                for (int i = 0; i < samplesPerThread; i++) {
+                    if (source.nextDouble() < chance) {
+                        threadWins++;
+                    }
+                }
+                return threadWins;
+            }));
+            for (Future<Integer> result : results) {
+                wins += result.get();
+            }
+        }
+
+        double total = (double) threads * samplesPerThread;
+        double sigma = Math.sqrt(total * chance * (1 - chance));
+        assertThat(Math.abs(wins - total * chance)).isLessThan(MAX_SIGMAS * sigma);
+    }
+
+    @Test
+    void splittableSource_sameSeedAndThread_drawsSameStream() {
+        SplittableRandomSource source = new SplittableRandomSource(42L);
+        SplittableRandomSource sameSeed = new SplittableRandomSource(42L);
+
+        for (int i = 0; i < 16; i++) {
+            assertThat(source.nextDouble(7L)).isEqualTo(sameSeed.nextDouble(7L));
+        }
+    }
+
+    @Test
+    void splittableSource_neighbouringThreads_drawFromDifferentStreams() {
+        double[] first = new double[16];
+        double[] second = new double[16];
+        SplittableRandomSource source = new SplittableRandomSource(42L);
+
+        for (int i = 0; i < first.length; i++) {
+            first[i] = source.nextDouble(0L);
+            second[i] = source.nextDouble(1L);
+        }
+
+        assertThat(second).isNotEqualTo(first);
+    }
+}
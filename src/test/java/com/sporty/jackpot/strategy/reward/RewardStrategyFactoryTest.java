@@ -1,5 +1,6 @@
 package com.sporty.jackpot.strategy.reward;
 
+import com.sporty.jackpot.entity.RandomSourceType;
 import com.sporty.jackpot.entity.RewardType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,9 +16,11 @@ class RewardStrategyFactoryTest {
 
     @BeforeEach
     void setUp() {
+        RandomSourceFactory randomSources =
+                new RandomSourceFactory(List.of(new SecureRandomSource()), RandomSourceType.SECURE);
         factory = new RewardStrategyFactory(List.of(
-                new FixedRewardStrategy(),
-                new VariableRewardStrategy()
+                new FixedRewardStrategy(randomSources),
+                new VariableRewardStrategy(randomSources)
         ));
     }
 
@@ -1,11 +1,13 @@
 package com.sporty.jackpot.strategy.reward;
 
 import com.sporty.jackpot.entity.Jackpot;
+import com.sporty.jackpot.entity.RandomSourceType;
 import com.sporty.jackpot.entity.RewardType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -15,7 +17,7 @@ class VariableRewardStrategyTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new VariableRewardStrategy();
+        strategy = new VariableRewardStrategy(randomSources());
     }
 
     @Test
@@ -216,4 +218,9 @@ class VariableRewardStrategyTest {
                 .maxPoolLimit(maxPool)
                 .build();
     }
+
+    private static RandomSourceFactory randomSources() {
+        return new RandomSourceFactory(
+                List.of(new SecureRandomSource(), new SplittableRandomSource()), RandomSourceType.SECURE);
+    }
 }